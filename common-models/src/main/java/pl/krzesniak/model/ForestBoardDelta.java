@@ -0,0 +1,10 @@
+package pl.krzesniak.model;
+
+public record ForestBoardDelta(String id, long baseIteration, long iteration, int[] indices, byte[] forestFireStates,
+                               double[] fireSpeeds, double[] fieldPercentagesDestroyed, boolean[] beingBurned,
+                               boolean[] beingExtinguished) {
+
+    public int size() {
+        return indices.length;
+    }
+}
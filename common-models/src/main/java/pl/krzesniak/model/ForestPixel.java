@@ -6,8 +6,8 @@ import pl.krzesniak.model.enums.ForestFireIndex;
 import pl.krzesniak.model.enums.ForestFireState;
 import pl.krzesniak.model.enums.Terrain;
 
-import java.util.Random;
-import java.util.stream.Stream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 import static java.lang.Math.exp;
 import static java.lang.Math.log;
@@ -19,6 +19,9 @@ import static java.lang.Math.log;
 @ToString
 public class ForestPixel {
 
+    public static final int MAXIMUM_PROBABILITY_VALUE = 20;
+    public static final int PROBABILITY_STEPS = MAXIMUM_PROBABILITY_VALUE * 2;
+
     private String id;
     private Terrain terrain;
     private double forestFireIndexValue;
@@ -30,26 +33,55 @@ public class ForestPixel {
     private FireParameter fireParameter;
 
     public void applyProbability() {
+        applyProbability(ThreadLocalRandom.current());
+    }
+
+    public void applyProbability(RandomGenerator rand) {
         if (terrain == Terrain.SAND || terrain == Terrain.WATER) return;
-        Random rand = new Random();
-        int maximumProbabilityValue = 20;
-        Double[] probabilities = Stream.iterate(0, n -> n + 1).map(element -> (double)
-                ((rand.nextInt(maximumProbabilityValue * 2)) - maximumProbabilityValue) / 100.0).limit(4).toArray(Double[]::new);
-        temperature += temperature * probabilities[0];
-        humidity += temperature * probabilities[1];
-        double newWindDirection = wind.direction() + wind.direction() * probabilities[2];
-        double newWindStrength = wind.speed() + wind.speed() * probabilities[3];
+        double temperatureProbability = drawProbability(rand);
+        double humidityProbability = drawProbability(rand);
+        double windDirectionProbability = drawProbability(rand);
+        double windSpeedProbability = drawProbability(rand);
+        temperature += temperature * temperatureProbability;
+        humidity += temperature * humidityProbability;
+        double newWindDirection = wind.direction() + wind.direction() * windDirectionProbability;
+        double newWindStrength = wind.speed() + wind.speed() * windSpeedProbability;
         wind = new Wind(newWindDirection, newWindStrength);
-        calculateForestFireIndexValue();
+        calculateForestFireIndexValue(rand);
+    }
+
+    private static double drawProbability(RandomGenerator rand) {
+        return toProbability(drawProbabilityStep(rand));
+    }
+
+    public static int drawProbabilityStep(RandomGenerator rand) {
+        return rand.nextInt(PROBABILITY_STEPS);
+    }
+
+    public static double toProbability(int probabilityStep) {
+        return (double) (probabilityStep - MAXIMUM_PROBABILITY_VALUE) / 100.0;
     }
 
     public void calculateForestFireIndexValue() {
-        double droughtFactor = Math.max(getRandomDroughtFactor(), 4);
-        double exponent = -0.45 + 0.987 * log(droughtFactor) - 0.0345 * getHumidity() + 0.0338 * getTemperature() + 0.0234 * getWind().speed();
-        this.forestFireIndexValue = 2 * exp(exponent);
+        calculateForestFireIndexValue(ThreadLocalRandom.current());
+    }
+
+    public void calculateForestFireIndexValue(RandomGenerator random) {
+        this.forestFireIndexValue = calculateForestFireIndexValue(drawDroughtFactor(random), getTemperature(),
+                getHumidity(), getWind().speed());
         this.forestFireIndex = converForestFireValueToForestFireIndex(this.forestFireIndexValue);
     }
 
+    public static double drawDroughtFactor(RandomGenerator random) {
+        return Math.max(getRandomDroughtFactor(random), 4);
+    }
+
+    public static double calculateForestFireIndexValue(double droughtFactor, double temperature, double humidity,
+                                                       double windSpeed) {
+        double exponent = -0.45 + 0.987 * log(droughtFactor) - 0.0345 * humidity + 0.0338 * temperature + 0.0234 * windSpeed;
+        return 2 * exp(exponent);
+    }
+
     public void resetFireParameter() {
         this.fireParameter = new FireParameter(false, false, 0, ForestFireState.NONE,
                 ForestFireBurnedColor.convertBurnedFieldPercentageToColorValue(0), 0);
@@ -91,8 +123,7 @@ public class ForestPixel {
         return 101;
     }
 
-    private int getRandomDroughtFactor() {
-        Random ran = new Random();
+    private static int getRandomDroughtFactor(RandomGenerator ran) {
         if (ran.nextDouble() < .1) {
             return ran.nextInt(50) + 140;
         } else if (ran.nextDouble() < .1 + .3) {
@@ -100,7 +131,7 @@ public class ForestPixel {
         } else return ran.nextInt(50);
     }
 
-    private ForestFireIndex converForestFireValueToForestFireIndex(double value) {
+    public static ForestFireIndex converForestFireValueToForestFireIndex(double value) {
         if (value == 0) return ForestFireIndex.NONE;
         if (value < 5) return ForestFireIndex.LOW;
         else if (value < 12) return ForestFireIndex.MODERATE;
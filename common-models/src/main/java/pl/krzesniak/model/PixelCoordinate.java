@@ -0,0 +1,42 @@
+package pl.krzesniak.model;
+
+import pl.krzesniak.exception.ForestPixelCalculationException;
+
+public record PixelCoordinate(int row, int column) {
+
+    public static final char SEPARATOR = ':';
+
+    public static PixelCoordinate parse(String id) {
+        PixelCoordinate coordinate = tryParse(id);
+        if (coordinate == null) throw new ForestPixelCalculationException("Pixel id " + id + " is not in row:column form");
+        return coordinate;
+    }
+
+    public static PixelCoordinate tryParse(String id) {
+        int separator = id.indexOf(SEPARATOR);
+        if (separator < 0) return null;
+        try {
+            return new PixelCoordinate(Integer.parseInt(id, 0, separator, 10),
+                    Integer.parseInt(id, separator + 1, id.length(), 10));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public PixelCoordinate translate(int rowTransition, int columnTransition) {
+        return new PixelCoordinate(row + rowTransition, column + columnTransition);
+    }
+
+    public int index(int width) {
+        return row * width + column;
+    }
+
+    public String toId() {
+        return row + ":" + column;
+    }
+
+    @Override
+    public int hashCode() {
+        return row * 0x9E3779B1 ^ column;
+    }
+}
@@ -0,0 +1,4 @@
+package pl.krzesniak.model;
+
+public record SimulationFinished(String id, long iteration) {
+}
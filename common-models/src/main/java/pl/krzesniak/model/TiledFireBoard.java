@@ -0,0 +1,203 @@
+package pl.krzesniak.model;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// copy-on-write tiles, a new generation shares every tile it did not write
+@Getter
+public class TiledFireBoard {
+
+    public static final int TILE_SHIFT = 6;
+    public static final int TILE_SIZE = 1 << TILE_SHIFT;
+    private static final int TILE_MASK = TILE_SIZE - 1;
+
+    private final int width;
+    private final int height;
+    private final int tileColumns;
+    @Getter(AccessLevel.NONE)
+    private final Tile[] tiles;
+
+    private TiledFireBoard(int width, int height, Tile[] tiles) {
+        this.width = width;
+        this.height = height;
+        this.tileColumns = (width + TILE_MASK) >> TILE_SHIFT;
+        this.tiles = tiles;
+    }
+
+    public static TiledFireBoard of(int width, int height, boolean[] beingBurned, boolean[] beingExtinguished,
+                                    double[] fieldPercentageDestroyed, double[] fireSpeed, byte[] forestFireState) {
+        int tileColumns = (width + TILE_MASK) >> TILE_SHIFT;
+        int tileRows = (height + TILE_MASK) >> TILE_SHIFT;
+        Tile[] tiles = new Tile[tileRows * tileColumns];
+        for (int tile = 0; tile < tiles.length; tile++) {
+            tiles[tile] = new Tile();
+        }
+        TiledFireBoard board = new TiledFireBoard(width, height, tiles);
+        board.forEachTileRow((row, column, length, tile, offset) -> {
+            int index = row * width + column;
+            System.arraycopy(beingBurned, index, tile.beingBurned, offset, length);
+            System.arraycopy(beingExtinguished, index, tile.beingExtinguished, offset, length);
+            System.arraycopy(fieldPercentageDestroyed, index, tile.fieldPercentageDestroyed, offset, length);
+            System.arraycopy(fireSpeed, index, tile.fireSpeed, offset, length);
+            System.arraycopy(forestFireState, index, tile.forestFireState, offset, length);
+        });
+        return board;
+    }
+
+    public int size() {
+        return width * height;
+    }
+
+    public int getTileCount() {
+        return tiles.length;
+    }
+
+    public boolean isBeingBurned(int index) {
+        return tileOf(index).beingBurned[offsetOf(index)];
+    }
+
+    public boolean isBeingExtinguished(int index) {
+        return tileOf(index).beingExtinguished[offsetOf(index)];
+    }
+
+    public double getFieldPercentageDestroyed(int index) {
+        return tileOf(index).fieldPercentageDestroyed[offsetOf(index)];
+    }
+
+    public double getFireSpeed(int index) {
+        return tileOf(index).fireSpeed[offsetOf(index)];
+    }
+
+    public byte getForestFireState(int index) {
+        return tileOf(index).forestFireState[offsetOf(index)];
+    }
+
+    public void copyTo(boolean[] beingBurned, boolean[] beingExtinguished, double[] fieldPercentageDestroyed,
+                       double[] fireSpeed, byte[] forestFireState) {
+        forEachTileRow((row, column, length, tile, offset) -> {
+            int index = row * width + column;
+            System.arraycopy(tile.beingBurned, offset, beingBurned, index, length);
+            System.arraycopy(tile.beingExtinguished, offset, beingExtinguished, index, length);
+            System.arraycopy(tile.fieldPercentageDestroyed, offset, fieldPercentageDestroyed, index, length);
+            System.arraycopy(tile.fireSpeed, offset, fireSpeed, index, length);
+            System.arraycopy(tile.forestFireState, offset, forestFireState, index, length);
+        });
+    }
+
+    public void forEachChangedIndex(TiledFireBoard previous, IntConsumer action) {
+        for (int row = 0; row < height; row++) {
+            for (int column = 0; column < width; column += TILE_SIZE) {
+                int tileIndex = (row >> TILE_SHIFT) * tileColumns + (column >> TILE_SHIFT);
+                Tile tile = tiles[tileIndex];
+                Tile previousTile = previous.tiles[tileIndex];
+                if (tile == previousTile) continue;
+                int offset = (row & TILE_MASK) << TILE_SHIFT;
+                for (int i = 0, length = Math.min(TILE_SIZE, width - column); i < length; i++) {
+                    if (tile.isChanged(previousTile, offset + i)) action.accept(row * width + column + i);
+                }
+            }
+        }
+    }
+
+    public Editor edit() {
+        return new Editor();
+    }
+
+    private Tile tileOf(int index) {
+        int row = index / width;
+        int column = index - row * width;
+        return tiles[(row >> TILE_SHIFT) * tileColumns + (column >> TILE_SHIFT)];
+    }
+
+    private int offsetOf(int index) {
+        int row = index / width;
+        int column = index - row * width;
+        return ((row & TILE_MASK) << TILE_SHIFT) + (column & TILE_MASK);
+    }
+
+    private void forEachTileRow(TileRowAction action) {
+        for (int row = 0; row < height; row++) {
+            for (int column = 0; column < width; column += TILE_SIZE) {
+                Tile tile = tiles[(row >> TILE_SHIFT) * tileColumns + (column >> TILE_SHIFT)];
+                action.accept(row, column, Math.min(TILE_SIZE, width - column), tile, (row & TILE_MASK) << TILE_SHIFT);
+            }
+        }
+    }
+
+    private interface TileRowAction {
+
+        void accept(int row, int column, int length, Tile tile, int offset);
+    }
+
+    public class Editor {
+
+        private final Tile[] editedTiles = tiles.clone();
+        private final boolean[] owned = new boolean[editedTiles.length];
+
+        private Editor() {
+        }
+
+        public Editor set(int index, boolean beingBurned, boolean beingExtinguished, double fieldPercentageDestroyed,
+                          double fireSpeed, byte forestFireState) {
+            int row = index / width;
+            int column = index - row * width;
+            int tileIndex = (row >> TILE_SHIFT) * tileColumns + (column >> TILE_SHIFT);
+            if (!owned[tileIndex]) {
+                editedTiles[tileIndex] = editedTiles[tileIndex].createCopy();
+                owned[tileIndex] = true;
+            }
+            Tile tile = editedTiles[tileIndex];
+            int offset = ((row & TILE_MASK) << TILE_SHIFT) + (column & TILE_MASK);
+            tile.beingBurned[offset] = beingBurned;
+            tile.beingExtinguished[offset] = beingExtinguished;
+            tile.fieldPercentageDestroyed[offset] = fieldPercentageDestroyed;
+            tile.fireSpeed[offset] = fireSpeed;
+            tile.forestFireState[offset] = forestFireState;
+            return this;
+        }
+
+        public TiledFireBoard build() {
+            Arrays.fill(owned, false);
+            return new TiledFireBoard(width, height, editedTiles.clone());
+        }
+    }
+
+    private static class Tile {
+
+        private final boolean[] beingBurned;
+        private final boolean[] beingExtinguished;
+        private final double[] fieldPercentageDestroyed;
+        private final double[] fireSpeed;
+        private final byte[] forestFireState;
+
+        private Tile() {
+            this(new boolean[TILE_SIZE * TILE_SIZE], new boolean[TILE_SIZE * TILE_SIZE],
+                    new double[TILE_SIZE * TILE_SIZE], new double[TILE_SIZE * TILE_SIZE], new byte[TILE_SIZE * TILE_SIZE]);
+        }
+
+        private Tile(boolean[] beingBurned, boolean[] beingExtinguished, double[] fieldPercentageDestroyed,
+                     double[] fireSpeed, byte[] forestFireState) {
+            this.beingBurned = beingBurned;
+            this.beingExtinguished = beingExtinguished;
+            this.fieldPercentageDestroyed = fieldPercentageDestroyed;
+            this.fireSpeed = fireSpeed;
+            this.forestFireState = forestFireState;
+        }
+
+        private boolean isChanged(Tile previous, int offset) {
+            return forestFireState[offset] != previous.forestFireState[offset]
+                    || fireSpeed[offset] != previous.fireSpeed[offset]
+                    || fieldPercentageDestroyed[offset] != previous.fieldPercentageDestroyed[offset]
+                    || beingBurned[offset] != previous.beingBurned[offset]
+                    || beingExtinguished[offset] != previous.beingExtinguished[offset];
+        }
+
+        private Tile createCopy() {
+            return new Tile(beingBurned.clone(), beingExtinguished.clone(), fieldPercentageDestroyed.clone(),
+                    fireSpeed.clone(), forestFireState.clone());
+        }
+    }
+}
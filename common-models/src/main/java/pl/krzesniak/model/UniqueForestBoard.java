@@ -0,0 +1,5 @@
+package pl.krzesniak.model;
+
+
+public record UniqueForestBoard(String id, long iteration, ForestPixel[][] board) {
+}
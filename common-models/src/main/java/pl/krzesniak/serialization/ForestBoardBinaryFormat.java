@@ -0,0 +1,26 @@
+package pl.krzesniak.serialization;
+
+final class ForestBoardBinaryFormat {
+
+    static final byte VERSION = 1;
+    static final byte KEYFRAME = 1;
+    static final byte DELTA = 2;
+    static final byte FINISHED = 3;
+
+    static final int HEADER_BYTES = 2;
+    static final int KEYFRAME_PIXEL_BYTES = 4 + 7 * Double.BYTES;
+    static final int DELTA_PIXEL_BYTES = Integer.BYTES + 2 + 2 * Double.BYTES;
+
+    static final byte NO_VALUE = -1;
+    static final byte BEING_BURNED = 1;
+    static final byte BEING_EXTINGUISHED = 1 << 1;
+    static final byte VISIBLE = 1 << 2;
+    static final byte TESTABLE = 1 << 3;
+    static final byte CENTER = 1 << 4;
+    static final byte HAS_SENSOR = 1 << 5;
+    static final byte NO_WIND = 1 << 6;
+    static final byte NO_AGENT_PARAMETERS = (byte) (1 << 7);
+
+    private ForestBoardBinaryFormat() {
+    }
+}
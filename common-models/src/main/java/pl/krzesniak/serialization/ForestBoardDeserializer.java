@@ -0,0 +1,114 @@
+package pl.krzesniak.serialization;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import pl.krzesniak.model.*;
+import pl.krzesniak.model.enums.ForestFireBurnedColor;
+import pl.krzesniak.model.enums.ForestFireIndex;
+import pl.krzesniak.model.enums.ForestFireState;
+import pl.krzesniak.model.enums.Terrain;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static pl.krzesniak.serialization.ForestBoardBinaryFormat.*;
+
+public class ForestBoardDeserializer implements Deserializer<Object> {
+
+    private static final Terrain[] TERRAINS = Terrain.values();
+    private static final ForestFireIndex[] FOREST_FIRE_INDEXES = ForestFireIndex.values();
+    private static final ForestFireState[] FOREST_FIRE_STATES = ForestFireState.values();
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        if (data == null) return null;
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        byte type = buffer.get();
+        byte version = buffer.get();
+        if (version != VERSION) throw new SerializationException("Unsupported board message version: " + version);
+        String id = readString(buffer);
+        if (type == KEYFRAME) return readKeyframe(buffer, id);
+        if (type == DELTA) return readDelta(buffer, id);
+        if (type == FINISHED) return new SimulationFinished(id, buffer.getLong());
+        throw new SerializationException("Unsupported board message type: " + type);
+    }
+
+    private UniqueForestBoard readKeyframe(ByteBuffer buffer, String id) {
+        long iteration = buffer.getLong();
+        int height = buffer.getInt();
+        int width = buffer.getInt();
+        ForestPixel[][] board = new ForestPixel[height][width];
+        for (int i = 0; i < height; i++) {
+            for (int j = 0; j < width; j++) {
+                board[i][j] = readPixel(buffer, i, j);
+            }
+        }
+        return new UniqueForestBoard(id, iteration, board);
+    }
+
+    private ForestPixel readPixel(ByteBuffer buffer, int row, int column) {
+        Terrain terrain = fromByte(TERRAINS, buffer.get());
+        ForestFireIndex forestFireIndex = fromByte(FOREST_FIRE_INDEXES, buffer.get());
+        ForestFireState forestFireState = fromByte(FOREST_FIRE_STATES, buffer.get());
+        byte flags = buffer.get();
+        double forestFireIndexValue = buffer.getDouble();
+        double temperature = buffer.getDouble();
+        double humidity = buffer.getDouble();
+        double windDirection = buffer.getDouble();
+        double windSpeed = buffer.getDouble();
+        double fieldPercentageDestroyed = buffer.getDouble();
+        double fireSpeed = buffer.getDouble();
+        return ForestPixel.builder()
+                .id(row + ":" + column)
+                .terrain(terrain)
+                .forestFireIndex(forestFireIndex)
+                .forestFireIndexValue(forestFireIndexValue)
+                .temperature(temperature)
+                .humidity(humidity)
+                .wind(hasFlag(flags, NO_WIND) ? null : new Wind(windDirection, windSpeed))
+                .agentParameters(hasFlag(flags, NO_AGENT_PARAMETERS) ? null : new AgentParameters(hasFlag(flags, VISIBLE),
+                        hasFlag(flags, TESTABLE), hasFlag(flags, CENTER), hasFlag(flags, HAS_SENSOR)))
+                .fireParameter(new FireParameter(hasFlag(flags, BEING_BURNED), hasFlag(flags, BEING_EXTINGUISHED),
+                        fieldPercentageDestroyed, forestFireState,
+                        ForestFireBurnedColor.convertBurnedFieldPercentageToColorValue((int) fieldPercentageDestroyed),
+                        fireSpeed))
+                .build();
+    }
+
+    private ForestBoardDelta readDelta(ByteBuffer buffer, String id) {
+        long baseIteration = buffer.getLong();
+        long iteration = buffer.getLong();
+        int size = buffer.getInt();
+        int[] indices = new int[size];
+        byte[] forestFireStates = new byte[size];
+        double[] fireSpeeds = new double[size];
+        double[] fieldPercentagesDestroyed = new double[size];
+        boolean[] beingBurned = new boolean[size];
+        boolean[] beingExtinguished = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            indices[i] = buffer.getInt();
+            forestFireStates[i] = buffer.get();
+            byte flags = buffer.get();
+            beingBurned[i] = hasFlag(flags, BEING_BURNED);
+            beingExtinguished[i] = hasFlag(flags, BEING_EXTINGUISHED);
+            fireSpeeds[i] = buffer.getDouble();
+            fieldPercentagesDestroyed[i] = buffer.getDouble();
+        }
+        return new ForestBoardDelta(id, baseIteration, iteration, indices, forestFireStates, fireSpeeds,
+                fieldPercentagesDestroyed, beingBurned, beingExtinguished);
+    }
+
+    private String readString(ByteBuffer buffer) {
+        byte[] value = new byte[buffer.getShort()];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private boolean hasFlag(byte flags, byte flag) {
+        return (flags & flag) != 0;
+    }
+
+    private <T> T fromByte(T[] values, byte value) {
+        return value == NO_VALUE ? null : values[value];
+    }
+}
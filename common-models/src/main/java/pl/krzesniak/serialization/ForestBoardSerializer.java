@@ -0,0 +1,116 @@
+package pl.krzesniak.serialization;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+import pl.krzesniak.model.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static pl.krzesniak.serialization.ForestBoardBinaryFormat.*;
+
+public class ForestBoardSerializer implements Serializer<Object> {
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (data == null) return null;
+        if (data instanceof UniqueForestBoard keyframe) return serializeKeyframe(keyframe);
+        if (data instanceof ForestBoardDelta delta) return serializeDelta(delta);
+        if (data instanceof SimulationFinished finished) return serializeFinished(finished);
+        throw new SerializationException("Unsupported board message type: " + data.getClass().getName());
+    }
+
+    public byte[] serializeKeyframe(UniqueForestBoard keyframe) {
+        byte[] id = toBytes(keyframe.id());
+        ForestPixel[][] board = keyframe.board();
+        int height = board.length;
+        int width = height == 0 ? 0 : board[0].length;
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + Short.BYTES + id.length + Long.BYTES + 2 * Integer.BYTES
+                + height * width * KEYFRAME_PIXEL_BYTES);
+        writeHeader(buffer, KEYFRAME, id);
+        buffer.putLong(keyframe.iteration());
+        buffer.putInt(height);
+        buffer.putInt(width);
+        for (ForestPixel[] row : board) {
+            for (ForestPixel pixel : row) {
+                writePixel(buffer, pixel);
+            }
+        }
+        return buffer.array();
+    }
+
+    public byte[] serializeDelta(ForestBoardDelta delta) {
+        byte[] id = toBytes(delta.id());
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + Short.BYTES + id.length + 2 * Long.BYTES + Integer.BYTES
+                + delta.size() * DELTA_PIXEL_BYTES);
+        writeHeader(buffer, DELTA, id);
+        buffer.putLong(delta.baseIteration());
+        buffer.putLong(delta.iteration());
+        buffer.putInt(delta.size());
+        for (int i = 0; i < delta.size(); i++) {
+            buffer.putInt(delta.indices()[i]);
+            buffer.put(delta.forestFireStates()[i]);
+            buffer.put(fireFlags(delta.beingBurned()[i], delta.beingExtinguished()[i]));
+            buffer.putDouble(delta.fireSpeeds()[i]);
+            buffer.putDouble(delta.fieldPercentagesDestroyed()[i]);
+        }
+        return buffer.array();
+    }
+
+    public byte[] serializeFinished(SimulationFinished finished) {
+        byte[] id = toBytes(finished.id());
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + Short.BYTES + id.length + Long.BYTES);
+        writeHeader(buffer, FINISHED, id);
+        buffer.putLong(finished.iteration());
+        return buffer.array();
+    }
+
+    private void writeHeader(ByteBuffer buffer, byte type, byte[] id) {
+        buffer.put(type);
+        buffer.put(VERSION);
+        buffer.putShort((short) id.length);
+        buffer.put(id);
+    }
+
+    private void writePixel(ByteBuffer buffer, ForestPixel pixel) {
+        FireParameter fireParameter = pixel.getFireParameter();
+        buffer.put(toByte(pixel.getTerrain()));
+        buffer.put(toByte(pixel.getForestFireIndex()));
+        buffer.put(toByte(fireParameter.getForestFireState()));
+        buffer.put(pixelFlags(pixel));
+        buffer.putDouble(pixel.getForestFireIndexValue());
+        buffer.putDouble(pixel.getTemperature());
+        buffer.putDouble(pixel.getHumidity());
+        buffer.putDouble(pixel.getWind() == null ? 0 : pixel.getWind().direction());
+        buffer.putDouble(pixel.getWind() == null ? 0 : pixel.getWind().speed());
+        buffer.putDouble(fireParameter.getFieldPercentageDestroyed());
+        buffer.putDouble(fireParameter.getFireSpeed());
+    }
+
+    private byte pixelFlags(ForestPixel pixel) {
+        byte flags = fireFlags(pixel.getFireParameter().isBeingBurned(), pixel.getFireParameter().isBeingExtinguished());
+        if (pixel.getWind() == null) flags |= NO_WIND;
+        AgentParameters agentParameters = pixel.getAgentParameters();
+        if (agentParameters == null) return (byte) (flags | NO_AGENT_PARAMETERS);
+        if (agentParameters.isVisible()) flags |= VISIBLE;
+        if (agentParameters.isTestable()) flags |= TESTABLE;
+        if (agentParameters.isCenter()) flags |= CENTER;
+        if (agentParameters.isHasSensor()) flags |= HAS_SENSOR;
+        return flags;
+    }
+
+    private byte fireFlags(boolean beingBurned, boolean beingExtinguished) {
+        byte flags = 0;
+        if (beingBurned) flags |= BEING_BURNED;
+        if (beingExtinguished) flags |= BEING_EXTINGUISHED;
+        return flags;
+    }
+
+    private byte toByte(Enum<?> value) {
+        return value == null ? NO_VALUE : (byte) value.ordinal();
+    }
+
+    private byte[] toBytes(String value) {
+        return value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+    }
+}
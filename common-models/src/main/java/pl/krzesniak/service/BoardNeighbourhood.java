@@ -0,0 +1,82 @@
+package pl.krzesniak.service;
+
+import lombok.Getter;
+import pl.krzesniak.model.ForestPixel;
+
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+@Getter
+public class BoardNeighbourhood {
+
+    private final int width;
+    private final int height;
+    private final int windowSize;
+    private final int[] minRows;
+    private final int[] maxRows;
+    private final int[] minColumns;
+    private final int[] maxColumns;
+
+    public BoardNeighbourhood(int width, int height, int windowSize) {
+        this(new PixelMathCalculator(), width, height, windowSize);
+    }
+
+    public BoardNeighbourhood(PixelMathCalculator pixelMathCalculator, int width, int height, int windowSize) {
+        this.width = width;
+        this.height = height;
+        this.windowSize = windowSize;
+        this.minRows = new int[height];
+        this.maxRows = new int[height];
+        this.minColumns = new int[width];
+        this.maxColumns = new int[width];
+        for (int row = 0; row < height; row++) {
+            minRows[row] = pixelMathCalculator.getMinRange(row, windowSize);
+            maxRows[row] = pixelMathCalculator.getMaxRange(row, windowSize, height - 1);
+        }
+        for (int column = 0; column < width; column++) {
+            minColumns[column] = pixelMathCalculator.getMinRange(column, windowSize);
+            maxColumns[column] = pixelMathCalculator.getMaxRange(column, windowSize, width - 1);
+        }
+    }
+
+    public int getMinRow(int row) {
+        return minRows[row];
+    }
+
+    public int getMaxRow(int row) {
+        return maxRows[row];
+    }
+
+    public int getMinColumn(int column) {
+        return minColumns[column];
+    }
+
+    public int getMaxColumn(int column) {
+        return maxColumns[column];
+    }
+
+    public int countNeighbours(int row, int column) {
+        return (maxRows[row] - minRows[row] + 1) * (maxColumns[column] - minColumns[column] + 1);
+    }
+
+    public void forEachNeighbourIndex(int row, int column, IntConsumer action) {
+        int minColumn = minColumns[column];
+        int maxColumn = maxColumns[column];
+        for (int i = minRows[row], maxRow = maxRows[row]; i <= maxRow; i++) {
+            for (int index = i * width + minColumn, last = i * width + maxColumn; index <= last; index++) {
+                action.accept(index);
+            }
+        }
+    }
+
+    public void forEachNeighbour(ForestPixel[][] board, int row, int column, Consumer<ForestPixel> action) {
+        int minColumn = minColumns[column];
+        int maxColumn = maxColumns[column];
+        for (int i = minRows[row], maxRow = maxRows[row]; i <= maxRow; i++) {
+            ForestPixel[] boardRow = board[i];
+            for (int j = minColumn; j <= maxColumn; j++) {
+                action.accept(boardRow[j]);
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package pl.krzesniak.service;
+
+import lombok.Getter;
+import pl.krzesniak.model.ForestPixel;
+import pl.krzesniak.model.PixelCoordinate;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+// not thread-safe, one instance per caller
+@Getter
+public class BoardWindow {
+
+    private final ForestPixel[][] board;
+    private final BoardNeighbourhood neighbourhood;
+    private int minRow;
+    private int maxRow;
+    private int minColumn;
+    private int maxColumn;
+
+    public BoardWindow(ForestPixel[][] board, BoardNeighbourhood neighbourhood) {
+        this.board = board;
+        this.neighbourhood = neighbourhood;
+    }
+
+    public BoardWindow moveTo(int row, int column) {
+        minRow = neighbourhood.getMinRow(row);
+        maxRow = neighbourhood.getMaxRow(row);
+        minColumn = neighbourhood.getMinColumn(column);
+        maxColumn = neighbourhood.getMaxColumn(column);
+        return this;
+    }
+
+    public BoardWindow moveTo(PixelCoordinate coordinate) {
+        return moveTo(coordinate.row(), coordinate.column());
+    }
+
+    public int size() {
+        return (maxRow - minRow + 1) * (maxColumn - minColumn + 1);
+    }
+
+    public void forEach(Consumer<ForestPixel> action) {
+        for (int i = minRow; i <= maxRow; i++) {
+            ForestPixel[] boardRow = board[i];
+            for (int j = minColumn; j <= maxColumn; j++) {
+                action.accept(boardRow[j]);
+            }
+        }
+    }
+
+    public int count(Predicate<ForestPixel> predicate) {
+        int count = 0;
+        for (int i = minRow; i <= maxRow; i++) {
+            ForestPixel[] boardRow = board[i];
+            for (int j = minColumn; j <= maxColumn; j++) {
+                if (predicate.test(boardRow[j])) count++;
+            }
+        }
+        return count;
+    }
+
+    public boolean anyMatch(Predicate<ForestPixel> predicate) {
+        for (int i = minRow; i <= maxRow; i++) {
+            ForestPixel[] boardRow = board[i];
+            for (int j = minColumn; j <= maxColumn; j++) {
+                if (predicate.test(boardRow[j])) return true;
+            }
+        }
+        return false;
+    }
+
+    public double sum(ToDoubleFunction<ForestPixel> function) {
+        double sum = 0;
+        for (int i = minRow; i <= maxRow; i++) {
+            ForestPixel[] boardRow = board[i];
+            for (int j = minColumn; j <= maxColumn; j++) {
+                sum += function.applyAsDouble(boardRow[j]);
+            }
+        }
+        return sum;
+    }
+
+    public <C extends Collection<ForestPixel>> C collect(Predicate<ForestPixel> predicate, C target) {
+        for (int i = minRow; i <= maxRow; i++) {
+            ForestPixel[] boardRow = board[i];
+            for (int j = minColumn; j <= maxColumn; j++) {
+                if (predicate.test(boardRow[j])) target.add(boardRow[j]);
+            }
+        }
+        return target;
+    }
+
+    public int countBurning() {
+        int count = 0;
+        for (int i = minRow; i <= maxRow; i++) {
+            ForestPixel[] boardRow = board[i];
+            for (int j = minColumn; j <= maxColumn; j++) {
+                if (boardRow[j].isBeingBurned()) count++;
+            }
+        }
+        return count;
+    }
+
+    public double sumFireSpeed() {
+        double sum = 0;
+        for (int i = minRow; i <= maxRow; i++) {
+            ForestPixel[] boardRow = board[i];
+            for (int j = minColumn; j <= maxColumn; j++) {
+                sum += boardRow[j].getFireParameter().getFireSpeed();
+            }
+        }
+        return sum;
+    }
+}
@@ -1,12 +1,18 @@
 package pl.krzesniak.service;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.springframework.beans.factory.annotation.Value;
 import pl.krzesniak.exception.ForestPixelCalculationException;
 import pl.krzesniak.model.ForestPixel;
+import pl.krzesniak.model.PixelCoordinate;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 
 @Data
@@ -24,6 +30,12 @@ public class ForestPixelHelper {
 
     private final int boardWindowTestingSize;
 
+    private final Map<Integer, BoardNeighbourhood> neighbourhoodByWindowSize = new ConcurrentHashMap<>();
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private ForestPixelIndex forestPixelIndex = new ForestPixelIndex(null);
+
     public ForestPixelHelper(int boardWidth, int boardHeight, int boardWindowSize, int boardWindowTestingSize) {
         this.pixelMathCalculator = new PixelMathCalculator();
         this.boardWidth = boardWidth;
@@ -32,44 +44,112 @@ public class ForestPixelHelper {
         this.boardWindowTestingSize = boardWindowTestingSize;
     }
 
+    public void setBoard(ForestPixel[][] board) {
+        this.board = board;
+        this.forestPixelIndex = new ForestPixelIndex(board);
+    }
+
     public Optional<ForestPixel> findForestPixelById(String id) {
-        return Arrays.stream(this.board)
-                .flatMap(Arrays::stream)
-                .filter(forestPixel -> forestPixel.getId().equals(id))
-                .findFirst();
+        return forestPixelIndex.findForestPixelById(id);
+    }
+
+    public Optional<ForestPixel> findForestPixel(PixelCoordinate coordinate) {
+        return forestPixelIndex.findForestPixel(coordinate);
     }
 
     public List<ForestPixel> createSurroundingsForPixel(String id) {
-        return createSurroundings(id, boardWindowSize);
+        return createSurroundings(PixelCoordinate.parse(id), boardWindowSize);
+    }
+
+    public List<ForestPixel> createSurroundingsForPixel(PixelCoordinate coordinate) {
+        return createSurroundings(coordinate, boardWindowSize);
     }
 
     public List<ForestPixel> createTestingSurroundingsForPixel(String id) {
-        return createSurroundings(id, boardWindowTestingSize);
+        return createSurroundings(PixelCoordinate.parse(id), boardWindowTestingSize);
+    }
+
+    public List<ForestPixel> createTestingSurroundingsForPixel(PixelCoordinate coordinate) {
+        return createSurroundings(coordinate, boardWindowTestingSize);
     }
 
     public List<ForestPixel> createSurroundings(String id, int windowSize) {
-        Integer[] rowAndColumn = pixelMathCalculator.retrieveRowAndColumnNumberFromId(id);
-        int rowNumber = rowAndColumn[0];
-        int columnNumber = rowAndColumn[1];
-        List<ForestPixel> forestPixels = new ArrayList<>();
-        int maxColumnRange = pixelMathCalculator.getMaxRange(columnNumber, windowSize, boardWidth-1);
-        int minColumnRange = pixelMathCalculator.getMinRange(columnNumber, windowSize);
-        int maxRowRange = pixelMathCalculator.getMaxRange(rowNumber, windowSize, boardHeight-1);
-        int minRowRange = pixelMathCalculator.getMinRange(rowNumber, windowSize);
-        for (int i = minRowRange; i <= maxRowRange; i++) {
-            forestPixels.addAll(Arrays.asList(board[i]).subList(minColumnRange, maxColumnRange + 1));
-        }
+        return createSurroundings(PixelCoordinate.parse(id), windowSize);
+    }
+
+    public List<ForestPixel> createSurroundings(PixelCoordinate coordinate, int windowSize) {
+        BoardNeighbourhood neighbourhood = getNeighbourhood(windowSize);
+        List<ForestPixel> forestPixels = new ArrayList<>(neighbourhood.countNeighbours(coordinate.row(), coordinate.column()));
+        neighbourhood.forEachNeighbour(board, coordinate.row(), coordinate.column(), forestPixels::add);
         return forestPixels;
     }
 
+    public void forEachSurroundingPixel(String id, Consumer<ForestPixel> action) {
+        forEachSurroundingPixel(PixelCoordinate.parse(id), boardWindowSize, action);
+    }
+
+    public void forEachSurroundingPixel(PixelCoordinate coordinate, Consumer<ForestPixel> action) {
+        forEachSurroundingPixel(coordinate, boardWindowSize, action);
+    }
+
+    public void forEachTestingSurroundingPixel(String id, Consumer<ForestPixel> action) {
+        forEachSurroundingPixel(PixelCoordinate.parse(id), boardWindowTestingSize, action);
+    }
+
+    public void forEachTestingSurroundingPixel(PixelCoordinate coordinate, Consumer<ForestPixel> action) {
+        forEachSurroundingPixel(coordinate, boardWindowTestingSize, action);
+    }
+
+    public void forEachSurroundingPixel(String id, int windowSize, Consumer<ForestPixel> action) {
+        forEachSurroundingPixel(PixelCoordinate.parse(id), windowSize, action);
+    }
+
+    public void forEachSurroundingPixel(PixelCoordinate coordinate, int windowSize, Consumer<ForestPixel> action) {
+        getNeighbourhood(windowSize).forEachNeighbour(board, coordinate.row(), coordinate.column(), action);
+    }
+
+    public BoardWindow createWindow() {
+        return createWindow(boardWindowSize);
+    }
+
+    public BoardWindow createTestingWindow() {
+        return createWindow(boardWindowTestingSize);
+    }
+
+    public BoardWindow createWindow(int windowSize) {
+        return new BoardWindow(board, getNeighbourhood(windowSize));
+    }
+
+    public BoardNeighbourhood getNeighbourhood(int windowSize) {
+        return neighbourhoodByWindowSize.computeIfAbsent(windowSize,
+                size -> new BoardNeighbourhood(pixelMathCalculator, boardWidth, boardHeight, size));
+    }
+
     public String chooseFromThePixelListTheClosestPixelToGivenPixel(List<String> ids, String givenPixelId) {
+        PixelCoordinate givenCoordinate = PixelCoordinate.parse(givenPixelId);
         return ids.stream()
-                .map(id -> new PixelAndDistance(id, pixelMathCalculator.calculateDistanceBetweenPixels(id, givenPixelId)))
+                .map(id -> new PixelAndDistance(id, pixelMathCalculator.calculateDistanceBetweenPixels(
+                        PixelCoordinate.parse(id), givenCoordinate)))
                 .min(Comparator.comparing(PixelAndDistance::distance))
                 .map(PixelAndDistance::id)
                 .orElseThrow( () -> new ForestPixelCalculationException("There is not value"));
     }
 
+    public PixelCoordinate chooseFromThePixelListTheClosestPixelToGivenPixel(List<PixelCoordinate> coordinates,
+                                                                             PixelCoordinate givenCoordinate) {
+        PixelCoordinate closest = null;
+        double closestDistance = Double.POSITIVE_INFINITY;
+        for (PixelCoordinate coordinate : coordinates) {
+            double distance = pixelMathCalculator.calculateDistanceBetweenPixels(coordinate, givenCoordinate);
+            if (distance < closestDistance) {
+                closest = coordinate;
+                closestDistance = distance;
+            }
+        }
+        if (closest == null) throw new ForestPixelCalculationException("There is not value");
+        return closest;
+    }
+
     public record PixelAndDistance(String id, double distance) {};
 
 }
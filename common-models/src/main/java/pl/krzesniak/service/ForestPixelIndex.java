@@ -0,0 +1,52 @@
+package pl.krzesniak.service;
+
+import pl.krzesniak.model.ForestPixel;
+import pl.krzesniak.model.PixelCoordinate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public class ForestPixelIndex {
+
+    private final ForestPixel[][] board;
+    private volatile Map<String, ForestPixel> pixelsById;
+
+    public ForestPixelIndex(ForestPixel[][] board) {
+        this.board = board;
+    }
+
+    public Optional<ForestPixel> findForestPixelById(String id) {
+        ForestPixel pixel = findAt(PixelCoordinate.tryParse(id));
+        if (pixel != null && id.equals(pixel.getId())) return Optional.of(pixel);
+        return Optional.ofNullable(getPixelsById().get(id));
+    }
+
+    public Optional<ForestPixel> findForestPixel(PixelCoordinate coordinate) {
+        return Optional.ofNullable(findAt(coordinate));
+    }
+
+    private ForestPixel findAt(PixelCoordinate coordinate) {
+        if (coordinate == null || board == null) return null;
+        if (coordinate.row() < 0 || coordinate.row() >= board.length) return null;
+        ForestPixel[] boardRow = board[coordinate.row()];
+        if (coordinate.column() < 0 || coordinate.column() >= boardRow.length) return null;
+        return boardRow[coordinate.column()];
+    }
+
+    private Map<String, ForestPixel> getPixelsById() {
+        Map<String, ForestPixel> index = pixelsById;
+        if (index == null) {
+            index = new HashMap<>();
+            if (board != null) {
+                for (ForestPixel[] boardRow : board) {
+                    for (ForestPixel pixel : boardRow) {
+                        index.putIfAbsent(pixel.getId(), pixel);
+                    }
+                }
+            }
+            pixelsById = index;
+        }
+        return index;
+    }
+}
@@ -2,8 +2,8 @@ package pl.krzesniak.service;
 
 import org.springframework.stereotype.Component;
 import pl.krzesniak.model.ForestPixel;
+import pl.krzesniak.model.PixelCoordinate;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -46,33 +46,55 @@ public class PixelMathCalculator {
     }
 
     public Integer[] retrieveRowAndColumnNumberFromId(String id) {
-        return Arrays.stream(id.split(":")).map(Integer::parseInt).toArray(Integer[]::new);
+        PixelCoordinate coordinate = PixelCoordinate.parse(id);
+        return new Integer[]{coordinate.row(), coordinate.column()};
     }
 
     public double calculateDistanceBetweenPixels(String id1, String id2) {
-        Integer[] coordinates1 = retrieveRowAndColumnNumberFromId(id1);
-        Integer[] coordinates2 = retrieveRowAndColumnNumberFromId(id2);
-        return sqrt(pow(coordinates1[0] - coordinates2[0], 2) + pow(coordinates1[1] - coordinates2[1], 2));
+        return calculateDistanceBetweenPixels(PixelCoordinate.parse(id1), PixelCoordinate.parse(id2));
+    }
+
+    public double calculateDistanceBetweenPixels(PixelCoordinate coordinate1, PixelCoordinate coordinate2) {
+        return sqrt(pow(coordinate1.row() - coordinate2.row(), 2) + pow(coordinate1.column() - coordinate2.column(), 2));
     }
 
     public boolean isBorderPixel(String id, Set<String> pixelId) {
         return  !pixelId.containsAll(createBorderForPixel(id));
     }
 
+    public boolean isBorderPixel(PixelCoordinate coordinate, Set<PixelCoordinate> coordinates) {
+        return !coordinates.contains(coordinate.translate(1, 0))
+                || !coordinates.contains(coordinate.translate(0, 1))
+                || !coordinates.contains(coordinate.translate(-1, 0))
+                || !coordinates.contains(coordinate.translate(0, -1));
+    }
+
     public Set<String> createBorderForPixel(String id) {
+        PixelCoordinate coordinate = PixelCoordinate.parse(id);
         return Set.of(
-                getPixelFromCurrentPixelLocation(id, 1,0),
-                getPixelFromCurrentPixelLocation(id, 0,1),
-                getPixelFromCurrentPixelLocation(id, -1,0),
-                getPixelFromCurrentPixelLocation(id, 0,-1)
+                coordinate.translate(1, 0).toId(),
+                coordinate.translate(0, 1).toId(),
+                coordinate.translate(-1, 0).toId(),
+                coordinate.translate(0, -1).toId()
         );
 
     }
 
+    public Set<PixelCoordinate> createBorderForPixel(PixelCoordinate coordinate) {
+        return Set.of(
+                coordinate.translate(1, 0),
+                coordinate.translate(0, 1),
+                coordinate.translate(-1, 0),
+                coordinate.translate(0, -1)
+        );
+    }
+
     public String getPixelFromCurrentPixelLocation(String pixelId, int rowTransition, int columnTransition) {
-        Integer[] rowAndColumnNumber = retrieveRowAndColumnNumberFromId(pixelId);
-        rowAndColumnNumber[0] += rowTransition;
-        rowAndColumnNumber[1] += columnTransition;
-        return rowAndColumnNumber[0] + ":" + rowAndColumnNumber[1];
+        return PixelCoordinate.parse(pixelId).translate(rowTransition, columnTransition).toId();
+    }
+
+    public PixelCoordinate getPixelFromCurrentPixelLocation(PixelCoordinate coordinate, int rowTransition,
+                                                            int columnTransition) {
+        return coordinate.translate(rowTransition, columnTransition);
     }
 }
@@ -0,0 +1,39 @@
+package pl.krzesniak.service;
+
+import lombok.Getter;
+
+import java.util.SplittableRandom;
+
+@Getter
+public class RandomStreams {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long seed;
+
+    public RandomStreams(long seed) {
+        this.seed = seed;
+    }
+
+    public SplittableRandom forTile(long tick, int tile) {
+        return forStream(tick, tile, 0);
+    }
+
+    public SplittableRandom forStream(long tick, int tile, int replica) {
+        long key = mix(seed + GOLDEN_GAMMA);
+        key = mix(key ^ (tick + GOLDEN_GAMMA));
+        key = mix(key ^ (tile + GOLDEN_GAMMA));
+        key = mix(key ^ (replica + GOLDEN_GAMMA));
+        return new SplittableRandom(key);
+    }
+
+    public static long randomSeed() {
+        return new SplittableRandom().nextLong();
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
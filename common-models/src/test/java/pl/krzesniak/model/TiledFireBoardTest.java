@@ -0,0 +1,96 @@
+package pl.krzesniak.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TiledFireBoardTest {
+
+    public static final int BOARD_HEIGHT = 130;
+    public static final int BOARD_WIDTH = 150;
+    public static final int SIZE = BOARD_HEIGHT * BOARD_WIDTH;
+
+    boolean[] beingBurned = new boolean[SIZE];
+    boolean[] beingExtinguished = new boolean[SIZE];
+    double[] fieldPercentageDestroyed = new double[SIZE];
+    double[] fireSpeed = new double[SIZE];
+    byte[] forestFireState = new byte[SIZE];
+
+    @Test
+    void copyTo_WhenBoardIsBuiltFromArrays() {
+        for (int index = 0; index < SIZE; index++) {
+            beingBurned[index] = index % 3 == 0;
+            beingExtinguished[index] = index % 7 == 0;
+            fieldPercentageDestroyed[index] = index % 101;
+            fireSpeed[index] = index / 10.0;
+            forestFireState[index] = (byte) (index % 6);
+        }
+        TiledFireBoard fireBoard = TiledFireBoard.of(BOARD_WIDTH, BOARD_HEIGHT, beingBurned, beingExtinguished,
+                fieldPercentageDestroyed, fireSpeed, forestFireState);
+        boolean[] copiedBeingBurned = new boolean[SIZE];
+        boolean[] copiedBeingExtinguished = new boolean[SIZE];
+        double[] copiedFieldPercentageDestroyed = new double[SIZE];
+        double[] copiedFireSpeed = new double[SIZE];
+        byte[] copiedForestFireState = new byte[SIZE];
+
+        fireBoard.copyTo(copiedBeingBurned, copiedBeingExtinguished, copiedFieldPercentageDestroyed, copiedFireSpeed,
+                copiedForestFireState);
+
+        assertEquals(9, fireBoard.getTileCount());
+        assertArrayEquals(beingBurned, copiedBeingBurned);
+        assertArrayEquals(beingExtinguished, copiedBeingExtinguished);
+        assertArrayEquals(fieldPercentageDestroyed, copiedFieldPercentageDestroyed);
+        assertArrayEquals(fireSpeed, copiedFireSpeed);
+        assertArrayEquals(forestFireState, copiedForestFireState);
+        assertEquals(fireSpeed[SIZE - 1], fireBoard.getFireSpeed(SIZE - 1));
+        assertEquals(forestFireState[BOARD_WIDTH + 70], fireBoard.getForestFireState(BOARD_WIDTH + 70));
+    }
+
+    @Test
+    void edit_WhenOnlyOneTileChanges() {
+        TiledFireBoard fireBoard = TiledFireBoard.of(BOARD_WIDTH, BOARD_HEIGHT, beingBurned, beingExtinguished,
+                fieldPercentageDestroyed, fireSpeed, forestFireState);
+        int index = 100 * BOARD_WIDTH + 70;
+
+        TiledFireBoard.Editor editor = fireBoard.edit();
+        TiledFireBoard next = editor.set(index, true, false, 30, 2.5, (byte) 2)
+                .set(index + 1, true, false, 1, 0.5, (byte) 1)
+                .build();
+        TiledFireBoard afterNext = editor.set(index + 2, true, true, 5, 1.5, (byte) 1).build();
+
+        assertArrayEquals(new int[]{index, index + 1}, changedIndices(next, fireBoard));
+        assertArrayEquals(new int[]{index + 2}, changedIndices(afterNext, next));
+        assertFalse(fireBoard.isBeingBurned(index));
+        assertTrue(next.isBeingBurned(index));
+        assertEquals(30, next.getFieldPercentageDestroyed(index));
+        assertEquals(2, next.getForestFireState(index));
+        assertFalse(next.isBeingBurned(index + 2));
+        assertTrue(afterNext.isBeingExtinguished(index + 2));
+        assertEquals(0.5, afterNext.getFireSpeed(index + 1));
+    }
+
+    @Test
+    void forEachChangedIndex_WhenPixelsChangeInSeveralTiles() {
+        TiledFireBoard fireBoard = TiledFireBoard.of(BOARD_WIDTH, BOARD_HEIGHT, beingBurned, beingExtinguished,
+                fieldPercentageDestroyed, fireSpeed, forestFireState);
+
+        TiledFireBoard next = fireBoard.edit()
+                .set(SIZE - 1, true, true, 100, 6.0, (byte) 5)
+                .set(BOARD_WIDTH + 70, false, false, 0, 0, (byte) 0)
+                .set(64, false, false, 10, 0, (byte) 0)
+                .set(3, true, false, 50, 4.0, (byte) 3)
+                .build();
+
+        assertArrayEquals(new int[]{3, 64, SIZE - 1}, changedIndices(next, fireBoard));
+        assertEquals(0, changedIndices(next, next).length);
+    }
+
+    private int[] changedIndices(TiledFireBoard fireBoard, TiledFireBoard previous) {
+        List<Integer> indices = new ArrayList<>();
+        fireBoard.forEachChangedIndex(previous, indices::add);
+        return indices.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,87 @@
+package pl.krzesniak.serialization;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import pl.krzesniak.model.*;
+import pl.krzesniak.model.enums.ForestFireBurnedColor;
+import pl.krzesniak.model.enums.ForestFireIndex;
+import pl.krzesniak.model.enums.ForestFireState;
+import pl.krzesniak.model.enums.Terrain;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class ForestBoardSerializationBenchmark {
+
+    @Param({"256", "2048"})
+    private int boardSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final ForestBoardSerializer serializer = new ForestBoardSerializer();
+    private final ForestBoardDeserializer deserializer = new ForestBoardDeserializer();
+    private UniqueForestBoard keyframe;
+    private byte[] binaryKeyframe;
+    private byte[] jsonKeyframe;
+
+    @Setup
+    public void setup() throws IOException {
+        ForestPixel[][] board = new ForestPixel[boardSize][boardSize];
+        for (int i = 0; i < boardSize; i++) {
+            for (int j = 0; j < boardSize; j++) {
+                double fieldPercentageDestroyed = (i * 7 + j * 3) % 101;
+                board[i][j] = ForestPixel.builder()
+                        .id(i + ":" + j)
+                        .terrain(Terrain.values()[(i + j) % Terrain.values().length])
+                        .forestFireIndex(ForestFireIndex.values()[(i * j) % ForestFireIndex.values().length])
+                        .forestFireIndexValue((i * 13 + j) % 70)
+                        .temperature(15 + i % 20)
+                        .humidity(30 + j % 40)
+                        .wind(new Wind(j % 360, i % 25))
+                        .agentParameters(new AgentParameters(i % 2 == 0, j % 3 == 0, false, i % 5 == 0))
+                        .fireParameter(new FireParameter(fieldPercentageDestroyed > 0, false, fieldPercentageDestroyed,
+                                ForestFireState.values()[(i + j) % ForestFireState.values().length],
+                                ForestFireBurnedColor.convertBurnedFieldPercentageToColorValue((int) fieldPercentageDestroyed),
+                                fieldPercentageDestroyed / 20))
+                        .build();
+            }
+        }
+        keyframe = new UniqueForestBoard("benchmark", 1, board);
+        binaryKeyframe = serializer.serialize(null, keyframe);
+        jsonKeyframe = objectMapper.writeValueAsBytes(keyframe);
+    }
+
+    @Benchmark
+    public byte[] serializeBinary() {
+        return serializer.serialize(null, keyframe);
+    }
+
+    @Benchmark
+    public byte[] serializeJson() throws IOException {
+        return objectMapper.writeValueAsBytes(keyframe);
+    }
+
+    @Benchmark
+    public Object deserializeBinary() {
+        return deserializer.deserialize(null, binaryKeyframe);
+    }
+
+    @Benchmark
+    public Object deserializeJson() throws IOException {
+        return objectMapper.readValue(jsonKeyframe, UniqueForestBoard.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ForestBoardSerializationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
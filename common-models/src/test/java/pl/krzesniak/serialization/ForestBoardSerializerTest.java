@@ -0,0 +1,108 @@
+package pl.krzesniak.serialization;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.krzesniak.model.*;
+import pl.krzesniak.model.enums.ForestFireBurnedColor;
+import pl.krzesniak.model.enums.ForestFireIndex;
+import pl.krzesniak.model.enums.ForestFireState;
+import pl.krzesniak.model.enums.Terrain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ForestBoardSerializerTest {
+
+    public static final int BOARD_HEIGHT = 3;
+    public static final int BOARD_WIDTH = 4;
+
+    ForestBoardSerializer serializer = new ForestBoardSerializer();
+    ForestBoardDeserializer deserializer = new ForestBoardDeserializer();
+    ForestPixel[][] board = new ForestPixel[BOARD_HEIGHT][BOARD_WIDTH];
+
+    @BeforeEach
+    void setup() {
+        for (int i = 0; i < BOARD_HEIGHT; i++) {
+            for (int j = 0; j < BOARD_WIDTH; j++) {
+                board[i][j] = ForestPixel.builder()
+                        .id(i + ":" + j)
+                        .terrain(j == 0 ? Terrain.WATER : Terrain.FOREST_DECIDUOUS)
+                        .forestFireIndex(ForestFireIndex.HIGH)
+                        .forestFireIndexValue(10.5 + i + j)
+                        .temperature(20.25 + i)
+                        .humidity(40 + j)
+                        .wind(new Wind(90.5, 3 + i))
+                        .agentParameters(new AgentParameters(i == 1, j == 2, i == 2, i == 1 && j == 1))
+                        .fireParameter(new FireParameter(false, false, 0, ForestFireState.NONE,
+                                ForestFireBurnedColor.convertBurnedFieldPercentageToColorValue(0), 0))
+                        .build();
+            }
+        }
+        board[1][2].setFireParameter(new FireParameter(true, true, 37.5, ForestFireState.MEDIUM,
+                ForestFireBurnedColor.convertBurnedFieldPercentageToColorValue(37), 2.25));
+        board[2][3].setWind(null);
+        board[2][3].setForestFireIndex(null);
+        board[0][1].setAgentParameters(null);
+    }
+
+    @Test
+    void deserialize_WhenKeyframeIsSerialized() {
+        var keyframe = new UniqueForestBoard("board", 42, board);
+
+        var result = (UniqueForestBoard) deserializer.deserialize("topic", serializer.serialize("topic", keyframe));
+
+        assertEquals("board", result.id());
+        assertEquals(42, result.iteration());
+        assertEquals(BOARD_HEIGHT, result.board().length);
+        for (int i = 0; i < BOARD_HEIGHT; i++) {
+            assertEquals(BOARD_WIDTH, result.board()[i].length);
+            for (int j = 0; j < BOARD_WIDTH; j++) {
+                assertPixelEquals(board[i][j], result.board()[i][j]);
+            }
+        }
+    }
+
+    @Test
+    void deserialize_WhenDeltaIsSerialized() {
+        var delta = new ForestBoardDelta("board", 41, 42, new int[]{3, 7},
+                new byte[]{(byte) ForestFireState.HIGH.ordinal(), (byte) ForestFireState.DESTROYED.ordinal()},
+                new double[]{3.5, 0.25}, new double[]{12.5, 100}, new boolean[]{true, true}, new boolean[]{false, true});
+
+        var result = (ForestBoardDelta) deserializer.deserialize("topic", serializer.serialize("topic", delta));
+
+        assertEquals(delta.id(), result.id());
+        assertEquals(delta.baseIteration(), result.baseIteration());
+        assertEquals(delta.iteration(), result.iteration());
+        assertArrayEquals(delta.indices(), result.indices());
+        assertArrayEquals(delta.forestFireStates(), result.forestFireStates());
+        assertArrayEquals(delta.fireSpeeds(), result.fireSpeeds());
+        assertArrayEquals(delta.fieldPercentagesDestroyed(), result.fieldPercentagesDestroyed());
+        assertArrayEquals(delta.beingBurned(), result.beingBurned());
+        assertArrayEquals(delta.beingExtinguished(), result.beingExtinguished());
+    }
+
+    @Test
+    void deserialize_WhenFinishedIsSerialized() {
+        var finished = new SimulationFinished("board", 42);
+
+        assertEquals(finished, deserializer.deserialize("topic", serializer.serialize("topic", finished)));
+    }
+
+    private void assertPixelEquals(ForestPixel expected, ForestPixel actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getTerrain(), actual.getTerrain());
+        assertEquals(expected.getForestFireIndex(), actual.getForestFireIndex());
+        assertEquals(expected.getForestFireIndexValue(), actual.getForestFireIndexValue());
+        assertEquals(expected.getTemperature(), actual.getTemperature());
+        assertEquals(expected.getHumidity(), actual.getHumidity());
+        assertEquals(expected.getWind(), actual.getWind());
+        assertEquals(expected.getAgentParameters(), actual.getAgentParameters());
+        FireParameter expectedFireParameter = expected.getFireParameter();
+        FireParameter actualFireParameter = actual.getFireParameter();
+        assertEquals(expectedFireParameter.isBeingBurned(), actualFireParameter.isBeingBurned());
+        assertEquals(expectedFireParameter.isBeingExtinguished(), actualFireParameter.isBeingExtinguished());
+        assertEquals(expectedFireParameter.getFieldPercentageDestroyed(), actualFireParameter.getFieldPercentageDestroyed());
+        assertEquals(expectedFireParameter.getForestFireState(), actualFireParameter.getForestFireState());
+        assertEquals(expectedFireParameter.getForestFireBurnedColor(), actualFireParameter.getForestFireBurnedColor());
+        assertEquals(expectedFireParameter.getFireSpeed(), actualFireParameter.getFireSpeed());
+    }
+}
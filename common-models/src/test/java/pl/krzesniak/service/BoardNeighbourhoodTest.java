@@ -0,0 +1,42 @@
+package pl.krzesniak.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardNeighbourhoodTest {
+
+    BoardNeighbourhood neighbourhood = new BoardNeighbourhood(6, 4, 3);
+
+    @Test
+    void forEachNeighbourIndex_WhenPixelIsInsideBoard() {
+        List<Integer> indexes = new ArrayList<>();
+
+        neighbourhood.forEachNeighbourIndex(1, 2, indexes::add);
+
+        assertEquals(List.of(1, 2, 3, 7, 8, 9, 13, 14, 15), indexes);
+    }
+
+    @Test
+    void forEachNeighbourIndex_WhenPixelIsInCorner() {
+        List<Integer> indexes = new ArrayList<>();
+
+        neighbourhood.forEachNeighbourIndex(3, 5, indexes::add);
+
+        assertEquals(List.of(16, 17, 22, 23), indexes);
+        assertEquals(4, neighbourhood.countNeighbours(3, 5));
+    }
+
+    @Test
+    void getMinRowAndMaxRow_WhenWindowIsBiggerThanBoard() {
+        BoardNeighbourhood wideNeighbourhood = new BoardNeighbourhood(6, 4, 9);
+
+        assertEquals(0, wideNeighbourhood.getMinRow(1));
+        assertEquals(3, wideNeighbourhood.getMaxRow(1));
+        assertEquals(0, wideNeighbourhood.getMinColumn(3));
+        assertEquals(5, wideNeighbourhood.getMaxColumn(3));
+    }
+}
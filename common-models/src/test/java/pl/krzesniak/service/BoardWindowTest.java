@@ -0,0 +1,74 @@
+package pl.krzesniak.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.krzesniak.model.FireParameter;
+import pl.krzesniak.model.ForestPixel;
+import pl.krzesniak.model.PixelCoordinate;
+import pl.krzesniak.model.enums.ForestFireBurnedColor;
+import pl.krzesniak.model.enums.ForestFireState;
+import pl.krzesniak.model.enums.Terrain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardWindowTest {
+
+    public static final int BOARD_HEIGHT = 5;
+    public static final int BOARD_WIDTH = 7;
+    public static final String NO_COLOR = ForestFireBurnedColor.convertBurnedFieldPercentageToColorValue(0);
+
+    ForestPixelHelper forestPixelHelper = new ForestPixelHelper(BOARD_WIDTH, BOARD_HEIGHT, 3, 5);
+    ForestPixel[][] board = new ForestPixel[BOARD_HEIGHT][BOARD_WIDTH];
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < BOARD_HEIGHT; i++) {
+            for (int j = 0; j < BOARD_WIDTH; j++) {
+                board[i][j] = ForestPixel.builder()
+                        .id(i + ":" + j)
+                        .terrain(Terrain.FOREST_CONIFEROUS)
+                        .forestFireIndexValue(i * BOARD_WIDTH + j)
+                        .fireParameter(new FireParameter(false, false, 0, ForestFireState.NONE, NO_COLOR, 0))
+                        .build();
+            }
+        }
+        board[1][1].setFireParameter(new FireParameter(true, false, 30, ForestFireState.MEDIUM, NO_COLOR, 2.5));
+        board[2][2].setFireParameter(new FireParameter(true, false, 100, ForestFireState.DESTROYED, NO_COLOR, 4.0));
+        forestPixelHelper.setBoard(board);
+    }
+
+    @Test
+    void forEach_WhenComparedWithSurroundings() {
+        BoardWindow window = forestPixelHelper.createWindow();
+
+        for (int i = 0; i < BOARD_HEIGHT; i++) {
+            for (int j = 0; j < BOARD_WIDTH; j++) {
+                List<ForestPixel> pixels = new ArrayList<>();
+                window.moveTo(i, j).forEach(pixels::add);
+
+                List<ForestPixel> expected = forestPixelHelper.createSurroundingsForPixel(i + ":" + j);
+                assertEquals(expected, pixels);
+                assertEquals(expected.size(), window.size());
+            }
+        }
+    }
+
+    @Test
+    void reductions_WhenWindowHoldsBurningPixels() {
+        BoardWindow window = forestPixelHelper.createWindow().moveTo(new PixelCoordinate(1, 2));
+
+        assertEquals(2, window.countBurning());
+        assertEquals(6.5, window.sumFireSpeed());
+        assertEquals(2, window.count(ForestPixel::isBeingBurned));
+        assertTrue(window.anyMatch(pixel -> pixel.getForestFireIndexValue() == 17));
+        assertEquals(List.of(board[2][2]), window.collect(pixel -> !pixel.isNotDestroyed(), new ArrayList<>()));
+
+        window.moveTo(4, 6);
+
+        assertEquals(0, window.countBurning());
+        assertEquals(4, window.size());
+    }
+}
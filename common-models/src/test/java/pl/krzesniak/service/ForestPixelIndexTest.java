@@ -0,0 +1,64 @@
+package pl.krzesniak.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.krzesniak.model.ForestPixel;
+import pl.krzesniak.model.PixelCoordinate;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ForestPixelIndexTest {
+
+    public static final int BOARD_HEIGHT = 4;
+    public static final int BOARD_WIDTH = 6;
+
+    ForestPixel[][] board = new ForestPixel[BOARD_HEIGHT][BOARD_WIDTH];
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < BOARD_HEIGHT; i++) {
+            for (int j = 0; j < BOARD_WIDTH; j++) {
+                board[i][j] = ForestPixel.builder().id(i + ":" + j).build();
+            }
+        }
+    }
+
+    @Test
+    void findForestPixelById_WhenIdAddressesBoard() {
+        ForestPixelIndex index = new ForestPixelIndex(board);
+
+        assertSame(board[2][5], index.findForestPixelById("2:5").orElseThrow());
+        assertSame(board[3][0], index.findForestPixel(new PixelCoordinate(3, 0)).orElseThrow());
+        assertEquals(Optional.empty(), index.findForestPixelById("4:0"));
+        assertEquals(Optional.empty(), index.findForestPixel(new PixelCoordinate(1, -1)));
+    }
+
+    @Test
+    void findForestPixelById_WhenIdDoesNotMatchPosition() {
+        board[0][0].setId("sensor");
+        board[1][1].setId("0:0");
+        ForestPixelIndex index = new ForestPixelIndex(board);
+
+        assertSame(board[0][0], index.findForestPixelById("sensor").orElseThrow());
+        assertSame(board[1][1], index.findForestPixelById("0:0").orElseThrow());
+        assertEquals(Optional.empty(), index.findForestPixelById("1:1"));
+    }
+
+    @Test
+    void findForestPixelById_WhenHelperBoardIsReplaced() {
+        ForestPixelHelper forestPixelHelper = new ForestPixelHelper(BOARD_WIDTH, BOARD_HEIGHT, 3, 3);
+        forestPixelHelper.setBoard(board);
+        ForestPixel[][] replacement = new ForestPixel[BOARD_HEIGHT][BOARD_WIDTH];
+        for (int i = 0; i < BOARD_HEIGHT; i++) {
+            for (int j = 0; j < BOARD_WIDTH; j++) {
+                replacement[i][j] = ForestPixel.builder().id(i + ":" + j).build();
+            }
+        }
+
+        forestPixelHelper.setBoard(replacement);
+
+        assertSame(replacement[1][4], forestPixelHelper.findForestPixelById("1:4").orElseThrow());
+    }
+}
@@ -2,6 +2,8 @@ package pl.krzesniak.service;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import pl.krzesniak.exception.ForestPixelCalculationException;
+import pl.krzesniak.model.PixelCoordinate;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -67,4 +69,24 @@ class PixelMathCalculatorTest {
 
     }
 
+    @Test
+    void isBorderPixel_WhenComparedWithStringIds() {
+        Set<PixelCoordinate> coordinates = new HashSet<>();
+        pixelsId.forEach(id -> coordinates.add(PixelCoordinate.parse(id)));
+
+        for (String id : pixelsId) {
+            assertEquals(pixelMathCalculator.isBorderPixel(id, pixelsId),
+                    pixelMathCalculator.isBorderPixel(PixelCoordinate.parse(id), coordinates));
+        }
+    }
+
+    @Test
+    void parse_WhenIdIsConvertedBack() {
+        PixelCoordinate coordinate = PixelCoordinate.parse("12:-3");
+
+        assertEquals(new PixelCoordinate(12, -3), coordinate);
+        assertEquals("12:-3", coordinate.toId());
+        assertEquals("13:-5", pixelMathCalculator.getPixelFromCurrentPixelLocation("12:-3", 1, -2));
+        assertThrows(ForestPixelCalculationException.class, () -> PixelCoordinate.parse("12-3"));
+    }
 }
@@ -0,0 +1,24 @@
+package pl.krzesniak.configuration;
+
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import pl.krzesniak.listener.SessionEvictingRebalanceListener;
+import pl.krzesniak.service.MeasurementSessionRegistry;
+
+@Configuration
+public class KafkaListenerConfiguration {
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> kafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer, ConsumerFactory<Object, Object> consumerFactory,
+            MeasurementSessionRegistry measurementSessionRegistry) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.getContainerProperties().setConsumerRebalanceListener(
+                new SessionEvictingRebalanceListener(measurementSessionRegistry));
+        return factory;
+    }
+}
@@ -3,14 +3,13 @@ package pl.krzesniak.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 import pl.krzesniak.dto.AgentResourcesRequest;
 import pl.krzesniak.model.ForestPixel;
-import pl.krzesniak.service.AgentDashboard;
 import pl.krzesniak.service.AgentLocator;
+import pl.krzesniak.service.MeasurementSessionRegistry;
 
+import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
 
 @RestController
@@ -18,8 +17,23 @@ import static org.springframework.http.HttpStatus.OK;
 public class LocateAgentController {
 
     private final AgentLocator agentLocator;
+    private final MeasurementSessionRegistry measurementSessionRegistry;
+
     @PostMapping("/agents/locate")
-    ResponseEntity<ForestPixel[][]> locateAgents(@RequestBody AgentResourcesRequest agentResourcesRequest) {
-        return new ResponseEntity<>(agentLocator.locateAgents(agentResourcesRequest), OK);
+    ResponseEntity<ForestPixel[][]> locateAgents(@RequestBody AgentResourcesRequest agentResourcesRequest,
+                                                 @RequestParam(required = false) String simulationId) {
+        if (simulationId != null) {
+            var session = measurementSessionRegistry.getOrCreate(simulationId);
+            return new ResponseEntity<>(session.locateAgents(agentResourcesRequest), OK);
+        }
+        var board = agentLocator.locateAgents(agentResourcesRequest);
+        measurementSessionRegistry.setAgentResourcesTemplate(agentResourcesRequest);
+        return new ResponseEntity<>(board, OK);
+    }
+
+    @DeleteMapping("/agents/sessions/{simulationId}")
+    ResponseEntity<Void> removeSession(@PathVariable String simulationId) {
+        measurementSessionRegistry.remove(simulationId);
+        return new ResponseEntity<>(NO_CONTENT);
     }
 }
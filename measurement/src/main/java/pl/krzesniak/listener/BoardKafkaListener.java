@@ -3,21 +3,39 @@ package pl.krzesniak.listener;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.kafka.annotation.KafkaHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Service;
+import pl.krzesniak.model.ForestBoardDelta;
+import pl.krzesniak.model.SimulationFinished;
 import pl.krzesniak.model.UniqueForestBoard;
-import pl.krzesniak.service.AgentIteration;
+import pl.krzesniak.service.MeasurementSessionRegistry;
 
 @Service
 @Log4j2
 @RequiredArgsConstructor
+@KafkaListener(topics = {"${board.topic.name}"}, concurrency = "${board.listener.concurrency:6}")
 public class BoardKafkaListener {
 
-    private final AgentIteration agentIteration;
+    private final MeasurementSessionRegistry measurementSessionRegistry;
 
-    @KafkaListener(topics = {"${board.topic.name}"})
-    public void boardReader(UniqueForestBoard uniqueForestBoard) {
-        agentIteration.agentIteration(uniqueForestBoard.board());
-        log.info(uniqueForestBoard);
+    @KafkaHandler
+    public void boardReader(UniqueForestBoard uniqueForestBoard, @Header(KafkaHeaders.RECEIVED_PARTITION) int partition) {
+        measurementSessionRegistry.getOrCreate(uniqueForestBoard.id(), partition).applyKeyframe(uniqueForestBoard);
+        log.info("Keyframe {} of board {}", uniqueForestBoard.iteration(), uniqueForestBoard.id());
+    }
+
+    @KafkaHandler
+    public void boardDeltaReader(ForestBoardDelta forestBoardDelta, @Header(KafkaHeaders.RECEIVED_PARTITION) int partition) {
+        measurementSessionRegistry.getOrCreate(forestBoardDelta.id(), partition).applyDelta(forestBoardDelta);
+    }
+
+    @KafkaHandler
+    public void simulationFinishedReader(SimulationFinished simulationFinished) {
+        measurementSessionRegistry.remove(simulationFinished.id());
+        log.info("Simulation {} finished at iteration {}, its measurement session was removed",
+                simulationFinished.id(), simulationFinished.iteration());
     }
 }
@@ -0,0 +1,24 @@
+package pl.krzesniak.listener;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.common.TopicPartition;
+import pl.krzesniak.service.MeasurementSessionRegistry;
+
+import java.util.Collection;
+
+@RequiredArgsConstructor
+public class SessionEvictingRebalanceListener implements ConsumerRebalanceListener {
+
+    private final MeasurementSessionRegistry measurementSessionRegistry;
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        if (partitions.isEmpty()) return;
+        measurementSessionRegistry.removePartitions(partitions.stream().map(TopicPartition::partition).toList());
+    }
+
+    @Override
+    public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+    }
+}
@@ -0,0 +1,38 @@
+package pl.krzesniak.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import pl.krzesniak.dto.AgentResourcesRequest;
+import pl.krzesniak.service.AgentIteration;
+import pl.krzesniak.service.AgentLocator;
+import pl.krzesniak.service.BoardReconstructor;
+
+import java.util.Optional;
+
+@Getter
+@RequiredArgsConstructor
+public class MeasurementSession {
+
+    public static final int NO_PARTITION = -1;
+
+    private final String simulationId;
+    private final BoardReconstructor boardReconstructor;
+    private final AgentIteration agentIteration;
+    private final AgentLocator agentLocator;
+    @Setter
+    private volatile int partition = NO_PARTITION;
+
+    public synchronized ForestPixel[][] locateAgents(AgentResourcesRequest agentResourcesRequest) {
+        return agentLocator.locateAgents(agentResourcesRequest);
+    }
+
+    public synchronized void applyKeyframe(UniqueForestBoard keyframe) {
+        agentIteration.agentIteration(boardReconstructor.applyKeyframe(keyframe));
+    }
+
+    public synchronized void applyDelta(ForestBoardDelta delta) {
+        Optional<ForestPixel[][]> board = boardReconstructor.applyDelta(delta);
+        board.ifPresent(agentIteration::agentIteration);
+    }
+}
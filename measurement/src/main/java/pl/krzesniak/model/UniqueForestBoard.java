@@ -1,5 +0,0 @@
-package pl.krzesniak.model;
-
-
-public record UniqueForestBoard(String id, ForestPixel[][] board) {
-}
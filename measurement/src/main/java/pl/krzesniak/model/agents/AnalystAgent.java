@@ -2,14 +2,19 @@ package pl.krzesniak.model.agents;
 
 
 import pl.krzesniak.model.ForestPixel;
+import pl.krzesniak.service.BoardWindow;
 import pl.krzesniak.service.PixelMathCalculator;
 
 import java.util.*;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 public class AnalystAgent extends Agent {
 
     public final static double DANGEROUS_INDEX_VALUE = 16;
+    private static final Predicate<ForestPixel> IS_DANGEROUS =
+            pixel -> pixel.getForestFireIndexValue() > DANGEROUS_INDEX_VALUE;
+    private static final Predicate<ForestPixel> IS_BURNING = ForestPixel::isBeingBurned;
     private final PixelMathCalculator pixelMathCalculator;
 
     private Map<String, List<ForestPixel>> dangerousForestPixels;
@@ -25,23 +30,9 @@ public class AnalystAgent extends Agent {
         pixelMathCalculator = new PixelMathCalculator();
     }
 
-    public void analyzeForestFields(List<ForestPixel> pixels, String id) {
-        findDangerousPixels(pixels, id);
-        findBurningPixels(pixels, id);
-    }
-
-    private void findDangerousPixels(List<ForestPixel> pixels, String id) {
-        List<ForestPixel> filteredPixels = pixels.stream()
-                .filter(pixel -> pixel.getForestFireIndexValue() > DANGEROUS_INDEX_VALUE)
-                .collect(Collectors.toList());
-        if (!filteredPixels.isEmpty()) dangerousForestPixels.put(id, filteredPixels);
-    }
-
-    private void findBurningPixels(List<ForestPixel> pixels, String id) {
-        List<ForestPixel> burningPixelsList = pixels.stream()
-                .filter(ForestPixel::isBeingBurned)
-                .collect(Collectors.toList());
-        if (!burningPixelsList.isEmpty()) burningPixels.put(id, burningPixelsList);
+    public void analyzeForestFields(BoardWindow window, String id) {
+        if (window.anyMatch(IS_DANGEROUS)) dangerousForestPixels.put(id, window.collect(IS_DANGEROUS, new ArrayList<>()));
+        if (window.anyMatch(IS_BURNING)) burningPixels.put(id, window.collect(IS_BURNING, new ArrayList<>()));
     }
 
     public boolean arePixelsChanged() {
@@ -2,6 +2,7 @@ package pl.krzesniak.model.agents;
 
 import lombok.Data;
 import pl.krzesniak.model.ForestPixel;
+import pl.krzesniak.model.PixelCoordinate;
 import pl.krzesniak.service.PixelMathCalculator;
 import pl.krzesniak.service.resources.FireResourceMetadata;
 
@@ -103,8 +104,11 @@ public class FireControllerAgent extends Agent {
     }
 
     private List<String> findBorderPixelsId(Set<String> forestPixelsId) {
+        Set<PixelCoordinate> coordinates = forestPixelsId.stream()
+                .map(PixelCoordinate::parse)
+                .collect(Collectors.toSet());
         return forestPixelsId.stream()
-                .filter(pixelId -> pixelMathCalculator.isBorderPixel(pixelId, forestPixelsId))
+                .filter(pixelId -> pixelMathCalculator.isBorderPixel(PixelCoordinate.parse(pixelId), coordinates))
                 .toList();
     }
 
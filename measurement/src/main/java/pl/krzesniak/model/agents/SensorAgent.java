@@ -1,21 +1,19 @@
 package pl.krzesniak.model.agents;
 
 
-import pl.krzesniak.model.ForestPixel;
-import pl.krzesniak.model.SensorPixels;
-import pl.krzesniak.service.ForestPixelHelper;
-
-import java.util.List;
+import pl.krzesniak.model.PixelCoordinate;
+import pl.krzesniak.service.BoardWindow;
 
 public class SensorAgent extends Agent {
 
-    private List<ForestPixel> forestPixels;
+    private final PixelCoordinate coordinate;
+
     public SensorAgent(String id) {
         this.id = id;
+        this.coordinate = PixelCoordinate.parse(id);
     }
 
-    public SensorPixels updateForestFields(ForestPixelHelper forestPixelHelper) {
-        forestPixels = forestPixelHelper.createSurroundingsForPixel(id);
-        return new SensorPixels(id, forestPixels);
+    public BoardWindow updateForestFields(BoardWindow window) {
+        return window.moveTo(coordinate);
     }
 }
@@ -137,9 +137,9 @@ public class AgentIteration {
     }
 
     private boolean analyzeFieldsByAnalystAgent() {
-        agentDashboard.getSensorAgents().stream()
-                .map(sensorAgent -> sensorAgent.updateForestFields(forestPixelHelper))
-                .forEach(sensorPixels -> agentDashboard.getAnalystAgent().analyzeForestFields(sensorPixels.pixels(), sensorPixels.id()));
+        BoardWindow window = forestPixelHelper.createWindow();
+        agentDashboard.getSensorAgents().forEach(sensorAgent -> agentDashboard.getAnalystAgent()
+                .analyzeForestFields(sensorAgent.updateForestFields(window), sensorAgent.getId()));
         return agentDashboard.getAnalystAgent().arePixelsChanged();
     }
 
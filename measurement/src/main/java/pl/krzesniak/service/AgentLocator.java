@@ -9,7 +9,6 @@ import pl.krzesniak.exception.ForestPixelNotFoundException;
 
 import java.util.Arrays;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
 @Service
@@ -46,12 +45,12 @@ public class AgentLocator {
     }
 
     void recursiveSetVisibleNeighborhoodPixels(ForestPixel forestPixel) {
-        List<ForestPixel> pixelsNeighborhood = forestPixelHelper.createSurroundingsForPixel(forestPixel.getId());
-        pixelsNeighborhood.forEach(pixel -> pixel.getAgentParameters().setVisible(true));
-        pixelsNeighborhood.stream()
-                .map(ForestPixel::getId)
-                .flatMap(pixelId -> forestPixelHelper.createTestingSurroundingsForPixel(pixelId).stream())
-                .filter(pixel -> pixel.getForestFireIndexValue() > MIN_FIRE_VALUE_TO_BECOME_TESTABLE)
-                .forEach(pixel -> pixel.getAgentParameters().setTestable(true));
+        forestPixelHelper.forEachSurroundingPixel(forestPixel.getId(), pixel -> pixel.getAgentParameters().setVisible(true));
+        forestPixelHelper.forEachSurroundingPixel(forestPixel.getId(), pixel ->
+                forestPixelHelper.forEachTestingSurroundingPixel(pixel.getId(), testedPixel -> {
+                    if (testedPixel.getForestFireIndexValue() > MIN_FIRE_VALUE_TO_BECOME_TESTABLE) {
+                        testedPixel.getAgentParameters().setTestable(true);
+                    }
+                }));
     }
 }
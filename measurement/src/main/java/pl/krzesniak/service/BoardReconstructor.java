@@ -0,0 +1,51 @@
+package pl.krzesniak.service;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import pl.krzesniak.model.FireParameter;
+import pl.krzesniak.model.ForestBoardDelta;
+import pl.krzesniak.model.ForestPixel;
+import pl.krzesniak.model.UniqueForestBoard;
+import pl.krzesniak.model.enums.ForestFireBurnedColor;
+import pl.krzesniak.model.enums.ForestFireState;
+
+import java.util.Optional;
+
+@Getter
+@Log4j2
+public class BoardReconstructor {
+
+    private static final ForestFireState[] FOREST_FIRE_STATES = ForestFireState.values();
+
+    private String id;
+    private long iteration = -1;
+    private ForestPixel[][] board;
+
+    public synchronized ForestPixel[][] applyKeyframe(UniqueForestBoard keyframe) {
+        this.id = keyframe.id();
+        this.iteration = keyframe.iteration();
+        this.board = keyframe.board();
+        return board;
+    }
+
+    public synchronized Optional<ForestPixel[][]> applyDelta(ForestBoardDelta delta) {
+        if (board == null || !delta.id().equals(id) || delta.baseIteration() != iteration) {
+            log.warn("Skipping delta {} of board {}, waiting for a keyframe", delta.iteration(), delta.id());
+            return Optional.empty();
+        }
+        int width = board[0].length;
+        for (int i = 0; i < delta.size(); i++) {
+            int index = delta.indices()[i];
+            FireParameter fireParameter = board[index / width][index % width].getFireParameter();
+            fireParameter.setBeingBurned(delta.beingBurned()[i]);
+            fireParameter.setBeingExtinguished(delta.beingExtinguished()[i]);
+            fireParameter.setFieldPercentageDestroyed(delta.fieldPercentagesDestroyed()[i]);
+            fireParameter.setForestFireState(FOREST_FIRE_STATES[delta.forestFireStates()[i]]);
+            fireParameter.setFireSpeed(delta.fireSpeeds()[i]);
+            fireParameter.setForestFireBurnedColor(ForestFireBurnedColor.convertBurnedFieldPercentageToColorValue(
+                    (int) delta.fieldPercentagesDestroyed()[i]));
+        }
+        this.iteration = delta.iteration();
+        return Optional.of(board);
+    }
+}
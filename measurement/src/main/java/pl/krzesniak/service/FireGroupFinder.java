@@ -66,15 +66,12 @@ public class FireGroupFinder {
 
     private void recursiveFindingConnectedBurningPixels(ForestPixel pixel) {
         pixelsVisited.add(pixel);
-        Set<ForestPixel> foundNewBurnedFields = forestPixelHelper.
-                createTestingSurroundingsForPixel(pixel.getId())
-                .stream()
-                .flatMap(forestPixel -> forestPixelHelper.
-                        createTestingSurroundingsForPixel(pixel.getId())
-                        .stream())
-                .filter(forestPixel -> forestPixel.isBeingBurned() || forestPixel.isBeingExtinguish())
-                .filter(forestPixel -> !pixelsVisited.contains(forestPixel))
-                .collect(Collectors.toSet());
+        Set<ForestPixel> foundNewBurnedFields = new HashSet<>();
+        forestPixelHelper.forEachTestingSurroundingPixel(pixel.getId(), forestPixel -> {
+            if ((forestPixel.isBeingBurned() || forestPixel.isBeingExtinguish()) && !pixelsVisited.contains(forestPixel)) {
+                foundNewBurnedFields.add(forestPixel);
+            }
+        });
         if (foundNewBurnedFields.isEmpty()) return;
         foundBurningPixels.addAll(foundNewBurnedFields);
         foundNewBurnedFields.forEach(this::recursiveFindingConnectedBurningPixels);
@@ -0,0 +1,82 @@
+package pl.krzesniak.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import pl.krzesniak.dto.AgentResourcesRequest;
+import pl.krzesniak.model.ForestPixel;
+import pl.krzesniak.model.MeasurementSession;
+import pl.krzesniak.service.resources.FireResourceAllocator;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class MeasurementSessionRegistry {
+
+    private final AgentCreator agentCreator;
+    private final ForestPixelHelper forestPixelHelper;
+    private final Map<String, MeasurementSession> sessions = new ConcurrentHashMap<>();
+    private volatile AgentResourcesRequest agentResourcesTemplate;
+
+    public MeasurementSession getOrCreate(String simulationId) {
+        return sessions.computeIfAbsent(simulationId, this::createSession);
+    }
+
+    public MeasurementSession getOrCreate(String simulationId, int partition) {
+        MeasurementSession session = getOrCreate(simulationId);
+        session.setPartition(partition);
+        return session;
+    }
+
+    public Optional<MeasurementSession> find(String simulationId) {
+        return Optional.ofNullable(sessions.get(simulationId));
+    }
+
+    public void remove(String simulationId) {
+        sessions.remove(simulationId);
+    }
+
+    public void removePartitions(Collection<Integer> partitions) {
+        int before = sessions.size();
+        sessions.values().removeIf(session -> partitions.contains(session.getPartition()));
+        log.info("Evicted {} measurement sessions of revoked partitions {}", before - sessions.size(), partitions);
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    public void setAgentResourcesTemplate(AgentResourcesRequest agentResourcesRequest) {
+        this.agentResourcesTemplate = agentResourcesRequest;
+    }
+
+    private MeasurementSession createSession(String simulationId) {
+        var sessionPixelHelper = new ForestPixelHelper(forestPixelHelper.getBoardWidth(), forestPixelHelper.getBoardHeight(),
+                forestPixelHelper.getBoardWindowSize(), forestPixelHelper.getBoardWindowTestingSize());
+        var agentDashboard = new AgentDashboard(agentCreator);
+        var agentIteration = new AgentIteration(sessionPixelHelper, new TestableFieldsGrouperByLocation(sessionPixelHelper),
+                new FireGroupFinder(sessionPixelHelper), agentDashboard, new FireResourceAllocator(agentDashboard),
+                new AgentFinder(agentDashboard));
+        var agentLocator = new AgentLocator(agentDashboard, sessionPixelHelper);
+        var template = agentResourcesTemplate;
+        if (template != null) agentLocator.locateAgents(copyOf(template));
+        else agentDashboard.locateAgents(new AgentResourcesRequest(null, 0, 0, 0), Set.of(), Set.of());
+        log.info("Created measurement session for simulation {}", simulationId);
+        return new MeasurementSession(simulationId, new BoardReconstructor(), agentIteration, agentLocator);
+    }
+
+    private AgentResourcesRequest copyOf(AgentResourcesRequest agentResourcesRequest) {
+        ForestPixel[][] board = Arrays.stream(agentResourcesRequest.board())
+                .map(row -> Arrays.stream(row).map(ForestPixel::createCopy).toArray(ForestPixel[]::new))
+                .toArray(ForestPixel[][]::new);
+        return new AgentResourcesRequest(board, agentResourcesRequest.testerAgents(),
+                agentResourcesRequest.fireControllerAgents(), agentResourcesRequest.firefighterAgents());
+    }
+}
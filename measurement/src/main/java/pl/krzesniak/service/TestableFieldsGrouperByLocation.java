@@ -46,11 +46,10 @@ public class TestableFieldsGrouperByLocation {
     private void recursiveFindingConnectedPixels(Set<ForestPixel> pixels, ForestPixel pixel) {
         pixelsGroupedByNeighbours.add(pixel);
         pixelsVisited.add(pixel);
-        forestPixelHelper.
-                createTestingSurroundingsForPixel(pixel.getId())
-                .stream()
-                .filter(pixels::contains)
-                .filter(forestPixel -> !pixelsVisited.contains(forestPixel))
-                .forEach(lambdaPixel -> recursiveFindingConnectedPixels(pixels, lambdaPixel));
+        forestPixelHelper.forEachTestingSurroundingPixel(pixel.getId(), neighbour -> {
+            if (pixels.contains(neighbour) && !pixelsVisited.contains(neighbour)) {
+                recursiveFindingConnectedPixels(pixels, neighbour);
+            }
+        });
     }
 }
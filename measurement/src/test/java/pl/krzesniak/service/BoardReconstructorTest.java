@@ -0,0 +1,54 @@
+package pl.krzesniak.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.krzesniak.model.FireParameter;
+import pl.krzesniak.model.ForestBoardDelta;
+import pl.krzesniak.model.ForestPixel;
+import pl.krzesniak.model.UniqueForestBoard;
+import pl.krzesniak.model.enums.ForestFireBurnedColor;
+import pl.krzesniak.model.enums.ForestFireState;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardReconstructorTest {
+
+    public static final int BOARD_SIZE = 4;
+
+    BoardReconstructor boardReconstructor = new BoardReconstructor();
+    ForestPixel[][] board = new ForestPixel[BOARD_SIZE][BOARD_SIZE];
+
+    @BeforeEach
+    void setup() {
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            for (int j = 0; j < BOARD_SIZE; j++) {
+                board[i][j] = ForestPixel.builder().id(i + ":" + j).fireParameter(new FireParameter(false, false, 0,
+                        ForestFireState.NONE, ForestFireBurnedColor.convertBurnedFieldPercentageToColorValue(0), 0)).build();
+            }
+        }
+        boardReconstructor.applyKeyframe(new UniqueForestBoard("board", 10, board));
+    }
+
+    @Test
+    void applyDelta_WhenDeltaFollowsKeyframe() {
+        var delta = new ForestBoardDelta("board", 10, 11, new int[]{6}, new byte[]{(byte) ForestFireState.HIGH.ordinal()},
+                new double[]{3.5}, new double[]{12.0}, new boolean[]{true}, new boolean[]{false});
+
+        ForestPixel[][] result = boardReconstructor.applyDelta(delta).orElseThrow();
+
+        assertEquals(new FireParameter(true, false, 12.0, ForestFireState.HIGH,
+                ForestFireBurnedColor.convertBurnedFieldPercentageToColorValue(12), 3.5), result[1][2].getFireParameter());
+        assertEquals(ForestFireState.NONE, result[2][1].getFireParameter().getForestFireState());
+        assertEquals(11, boardReconstructor.getIteration());
+    }
+
+    @Test
+    void applyDelta_WhenBaseIterationIsMissing() {
+        var delta = new ForestBoardDelta("board", 11, 12, new int[]{6}, new byte[]{(byte) ForestFireState.HIGH.ordinal()},
+                new double[]{3.5}, new double[]{12.0}, new boolean[]{true}, new boolean[]{false});
+
+        assertTrue(boardReconstructor.applyDelta(delta).isEmpty());
+        assertEquals(ForestFireState.NONE, board[1][2].getFireParameter().getForestFireState());
+        assertEquals(10, boardReconstructor.getIteration());
+    }
+}
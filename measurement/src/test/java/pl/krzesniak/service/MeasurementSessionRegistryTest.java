@@ -0,0 +1,74 @@
+package pl.krzesniak.service;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.krzesniak.dto.AgentResourcesRequest;
+import pl.krzesniak.listener.SessionEvictingRebalanceListener;
+import pl.krzesniak.model.*;
+import pl.krzesniak.model.enums.ForestFireState;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MeasurementSessionRegistryTest {
+
+    public static final int BOARD_SIZE = 30;
+
+    ForestPixel[][] board = new ForestPixel[BOARD_SIZE][BOARD_SIZE];
+    MeasurementSessionRegistry measurementSessionRegistry = new MeasurementSessionRegistry(new AgentCreator(),
+            new ForestPixelHelper(BOARD_SIZE, BOARD_SIZE, 5, 3));
+
+    @BeforeEach
+    void setup() {
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            for (int j = 0; j < BOARD_SIZE; j++) {
+                board[i][j] = ForestPixel.builder().id(i + ":" + j).wind(new Wind(0, 0))
+                        .agentParameters(new AgentParameters(false, false, false, false))
+                        .fireParameter(new FireParameter(false, false, 0, ForestFireState.NONE, "", 0)).build();
+            }
+        }
+        board[5][5].getAgentParameters().setHasSensor(true);
+        board[10][10].getAgentParameters().setCenter(true);
+    }
+
+    @Test
+    void getOrCreate_WhenSessionsBelongToDifferentSimulations() {
+        measurementSessionRegistry.setAgentResourcesTemplate(new AgentResourcesRequest(board, 3, 2, 10));
+
+        MeasurementSession first = measurementSessionRegistry.getOrCreate("first");
+        MeasurementSession second = measurementSessionRegistry.getOrCreate("second");
+
+        assertSame(first, measurementSessionRegistry.getOrCreate("first"));
+        assertNotSame(first.getAgentIteration().getAgentDashboard(), second.getAgentIteration().getAgentDashboard());
+        assertEquals(1, first.getAgentIteration().getAgentDashboard().getSensorAgents().size());
+        assertEquals(10, second.getAgentIteration().getAgentDashboard().getFirefighterAgents().size());
+        assertEquals(2, measurementSessionRegistry.size());
+    }
+
+    @Test
+    void applyKeyframe_WhenNoAgentsWereLocated() {
+        MeasurementSession session = measurementSessionRegistry.getOrCreate("simulation");
+
+        session.applyKeyframe(new UniqueForestBoard("simulation", 0, board));
+
+        assertEquals(0, session.getBoardReconstructor().getIteration());
+        assertTrue(session.getAgentIteration().getAgentDashboard().getSensorAgents().isEmpty());
+    }
+
+    @Test
+    void onPartitionsRevoked_WhenSessionsAreSpreadOverPartitions() {
+        MeasurementSession revoked = measurementSessionRegistry.getOrCreate("revoked", 1);
+        MeasurementSession kept = measurementSessionRegistry.getOrCreate("kept", 2);
+        measurementSessionRegistry.getOrCreate("located");
+
+        new SessionEvictingRebalanceListener(measurementSessionRegistry).onPartitionsRevoked(
+                List.of(new TopicPartition("board", 1), new TopicPartition("board", 3)));
+
+        assertTrue(measurementSessionRegistry.find("revoked").isEmpty());
+        assertSame(kept, measurementSessionRegistry.find("kept").orElseThrow());
+        assertTrue(measurementSessionRegistry.find("located").isPresent());
+        assertNotSame(revoked, measurementSessionRegistry.getOrCreate("revoked", 1));
+    }
+}
@@ -13,10 +13,13 @@ public class KafkaTopicConfiguration {
     @Value("${board.topic.name}")
     private String uniqueBoard;
 
+    @Value("${board.topic.partitions:6}")
+    private int partitions;
+
     @Bean
     public NewTopic uniquerBoardTopic(){
         return TopicBuilder.name(uniqueBoard)
-                .partitions(1)
+                .partitions(partitions)
                 .config(TopicConfig.COMPRESSION_TYPE_CONFIG, "zstd")
                 .build();
     }
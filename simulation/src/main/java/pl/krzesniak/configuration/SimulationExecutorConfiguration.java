@@ -0,0 +1,29 @@
+package pl.krzesniak.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+
+@Configuration
+public class SimulationExecutorConfiguration {
+
+    @Value("${simulation.parallelism:0}")
+    private int parallelism;
+
+    @Value("${simulation.scheduler.threads:4}")
+    private int schedulerThreads;
+
+    @Bean
+    public ForkJoinPool simulationComputePool() {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService simulationScheduler() {
+        return Executors.newScheduledThreadPool(schedulerThreads);
+    }
+}
@@ -2,17 +2,26 @@ package pl.krzesniak.controller;
 
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.web.bind.annotation.*;
+import pl.krzesniak.model.AdvanceResult;
+import pl.krzesniak.model.CheckpointResult;
+import pl.krzesniak.model.EnsembleResult;
 import pl.krzesniak.model.ForestPixel;
-import pl.krzesniak.model.UniqueForestBoard;
+import pl.krzesniak.model.HistoryRange;
+import pl.krzesniak.model.SimulationStatistics;
+import pl.krzesniak.model.WeatherUpdate;
+import pl.krzesniak.model.enums.IterationMode;
+import pl.krzesniak.service.BoardPublisher;
+import pl.krzesniak.service.EnsembleRunner;
 import pl.krzesniak.service.ForestFireSimulator;
+import pl.krzesniak.service.SimulationRegistry;
+import pl.krzesniak.service.checkpoint.SimulationCheckpointer;
 
 import java.util.UUID;
 
 import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
 
 @RestController
@@ -21,41 +30,128 @@ import static org.springframework.http.HttpStatus.OK;
 public class SimulationController {
 
     private final ForestFireSimulator forestFireSimulator;
-    private final KafkaTemplate<String, UniqueForestBoard> kafkaTemplate;
-
-    @Value("${board.topic.name}")
-    String uniqueBoardTopic;
+    private final SimulationRegistry simulationRegistry;
+    private final EnsembleRunner ensembleRunner;
+    private final BoardPublisher boardPublisher;
+    private final SimulationCheckpointer simulationCheckpointer;
 
     @GetMapping("/boards")
     public ResponseEntity<ForestPixel[][]> getBoard() {
-        return new ResponseEntity<>(forestFireSimulator.getBoard(), OK);
+        return new ResponseEntity<>(forestFireSimulator.getBoard(simulationRegistry.getLatest()), OK);
     }
+
     @PostMapping("/boards")
-    public ResponseEntity<UUID> setBoard(@RequestBody ForestPixel[][] board) {
-        forestFireSimulator.setBoard(board);
-        return new ResponseEntity<>(UUID.randomUUID(), CREATED);
+    public ResponseEntity<UUID> setBoard(@RequestBody ForestPixel[][] board, @RequestParam(required = false) Long seed,
+                                         @RequestParam(required = false) IterationMode mode,
+                                         @RequestParam(required = false) String model) {
+        return new ResponseEntity<>(simulationRegistry.create(board, seed, mode, model).getId(), CREATED);
     }
 
     @PostMapping("/start")
     public ResponseEntity<Boolean> startSimulation() {
-        forestFireSimulator.start();
+        simulationRegistry.start(simulationRegistry.getLatest());
         return new ResponseEntity<>(Boolean.TRUE, OK);
     }
 
     @PostMapping("/stop")
     public ResponseEntity<Boolean> stopSimulation() {
-        forestFireSimulator.stop();
+        simulationRegistry.stop(simulationRegistry.getLatest());
         return new ResponseEntity<>(Boolean.TRUE, OK);
     }
 
     @GetMapping("/pixels/{id}")
     public ResponseEntity<ForestPixel> getForestPixelById(@PathVariable String id) {
-        return new ResponseEntity<>(forestFireSimulator.getPixelById(id), OK);
+        return new ResponseEntity<>(forestFireSimulator.getPixelById(simulationRegistry.getLatest(), id), OK);
+    }
+
+    @GetMapping("/{simulationId}/boards")
+    public ResponseEntity<ForestPixel[][]> getBoard(@PathVariable UUID simulationId) {
+        return new ResponseEntity<>(forestFireSimulator.getBoard(simulationRegistry.get(simulationId)), OK);
+    }
+
+    @PostMapping("/{simulationId}/start")
+    public ResponseEntity<Boolean> startSimulation(@PathVariable UUID simulationId) {
+        simulationRegistry.start(simulationRegistry.get(simulationId));
+        return new ResponseEntity<>(Boolean.TRUE, OK);
+    }
+
+    @PostMapping("/{simulationId}/stop")
+    public ResponseEntity<Boolean> stopSimulation(@PathVariable UUID simulationId) {
+        simulationRegistry.stop(simulationRegistry.get(simulationId));
+        return new ResponseEntity<>(Boolean.TRUE, OK);
+    }
+
+    @PostMapping("/{simulationId}/advance")
+    public ResponseEntity<AdvanceResult> advanceSimulation(@PathVariable UUID simulationId,
+                                                           @RequestParam int iterations) {
+        var advanceResult = simulationRegistry.advance(simulationRegistry.get(simulationId), iterations);
+        return new ResponseEntity<>(advanceResult, OK);
+    }
+
+    @PostMapping("/{simulationId}/checkpoints")
+    public ResponseEntity<CheckpointResult> checkpointSimulation(@PathVariable UUID simulationId) {
+        return new ResponseEntity<>(simulationCheckpointer.checkpoint(simulationRegistry.get(simulationId)), CREATED);
+    }
+
+    @PostMapping("/{simulationId}/resume")
+    public ResponseEntity<UUID> resumeSimulation(@PathVariable UUID simulationId) {
+        return new ResponseEntity<>(simulationRegistry.resume(simulationId).getId(), OK);
+    }
+
+    @GetMapping("/{simulationId}/stats")
+    public ResponseEntity<SimulationStatistics> getStatistics(@PathVariable UUID simulationId) {
+        return new ResponseEntity<>(forestFireSimulator.getStatistics(simulationRegistry.get(simulationId)), OK);
+    }
+
+    @GetMapping("/{simulationId}/history")
+    public ResponseEntity<HistoryRange> getHistoryRange(@PathVariable UUID simulationId) {
+        return new ResponseEntity<>(forestFireSimulator.getHistoryRange(simulationRegistry.get(simulationId)), OK);
+    }
+
+    @GetMapping("/{simulationId}/history/{iteration}/boards")
+    public ResponseEntity<ForestPixel[][]> getBoard(@PathVariable UUID simulationId, @PathVariable long iteration) {
+        return new ResponseEntity<>(forestFireSimulator.getBoard(simulationRegistry.get(simulationId), iteration), OK);
+    }
+
+    @GetMapping("/{simulationId}/history/{iteration}/pixels/{id}")
+    public ResponseEntity<ForestPixel> getForestPixelById(@PathVariable UUID simulationId, @PathVariable long iteration,
+                                                          @PathVariable String id) {
+        return new ResponseEntity<>(forestFireSimulator.getPixelById(simulationRegistry.get(simulationId), iteration, id),
+                OK);
+    }
+
+    @GetMapping("/{simulationId}/pixels/{id}")
+    public ResponseEntity<ForestPixel> getForestPixelById(@PathVariable UUID simulationId, @PathVariable String id) {
+        return new ResponseEntity<>(forestFireSimulator.getPixelById(simulationRegistry.get(simulationId), id), OK);
+    }
+
+    @PutMapping("/{simulationId}/pixels/{id}/weather")
+    public ResponseEntity<ForestPixel> updateWeather(@PathVariable UUID simulationId, @PathVariable String id,
+                                                     @RequestBody WeatherUpdate weatherUpdate) {
+        var simulation = simulationRegistry.get(simulationId);
+        forestFireSimulator.updateWeather(simulation, id, weatherUpdate.temperature(), weatherUpdate.humidity(),
+                weatherUpdate.wind());
+        return new ResponseEntity<>(forestFireSimulator.getPixelById(simulation, id), OK);
+    }
+
+    @PostMapping("/{simulationId}/ensembles")
+    public ResponseEntity<EnsembleResult> runEnsemble(@PathVariable UUID simulationId,
+                                                      @RequestParam(defaultValue = "100") int replicas,
+                                                      @RequestParam(defaultValue = "50") int iterations,
+                                                      @RequestParam(required = false) Long seed) {
+        var simulation = simulationRegistry.get(simulationId);
+        return new ResponseEntity<>(ensembleRunner.run(simulation, replicas, iterations,
+                seed == null ? simulation.getRandomStreams().getSeed() : seed), OK);
+    }
+
+    @DeleteMapping("/{simulationId}")
+    public ResponseEntity<Void> deleteSimulation(@PathVariable UUID simulationId) {
+        simulationRegistry.remove(simulationId);
+        return new ResponseEntity<>(NO_CONTENT);
     }
 
     @PostMapping("/kafka")
     public void sendMessage() {
-        var send = new UniqueForestBoard(UUID.randomUUID().toString(), forestFireSimulator.getBoard());
-        kafkaTemplate.send(uniqueBoardTopic, send);
+        boardPublisher.publishKeyframe(simulationRegistry.getLatest());
     }
 }
@@ -0,0 +1,12 @@
+package pl.krzesniak.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidSimulationRequestException extends RuntimeException {
+
+    public InvalidSimulationRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package pl.krzesniak.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class PixelNotFoundException extends RuntimeException {
+
+    public PixelNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,6 @@
+package pl.krzesniak.model;
+
+import java.util.UUID;
+
+public record AdvanceResult(UUID simulationId, int iterations, long tick, long elapsedMillis, double ticksPerSecond) {
+}
@@ -0,0 +1,17 @@
+package pl.krzesniak.model;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Getter
+@Setter
+public class BoardPublicationState {
+
+    private final AtomicBoolean publicationScheduled = new AtomicBoolean();
+    private TiledFireBoard publishedFireBoard;
+    private long publishedGeneration = -1;
+    private long keyframeGeneration = -1;
+    private long conflatedGenerations;
+}
@@ -0,0 +1,6 @@
+package pl.krzesniak.model;
+
+import java.util.UUID;
+
+public record CheckpointResult(UUID simulationId, long tick, long bytes) {
+}
@@ -0,0 +1,106 @@
+package pl.krzesniak.model;
+
+import lombok.Getter;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+
+public class DoubleBufferedBoard {
+
+    @Getter
+    private final PrimitiveBoard board;
+    // the read lock keeps swap() from handing back a layer still being read
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile FireLayer front;
+    private FireLayer back;
+    private IntList frontWrites = new IntList();
+    private IntList backWrites = new IntList();
+    private boolean frontWritesTracked;
+    private boolean backWritesTracked;
+    @Getter
+    private volatile long generation;
+
+    public DoubleBufferedBoard(PrimitiveBoard board, FireLayer fireLayer) {
+        this(board, fireLayer, 0);
+    }
+
+    public DoubleBufferedBoard(PrimitiveBoard board, FireLayer fireLayer, long generation) {
+        this.board = board;
+        this.front = fireLayer;
+        this.back = new FireLayer(fireLayer.size());
+        this.generation = generation;
+    }
+
+    public FireLayer getFront() {
+        return front;
+    }
+
+    public FireLayer prepareBack() {
+        claimBack().copyFrom(front);
+        back.setStatisticsDeferred(false);
+        backWritesTracked = true;
+        return back;
+    }
+
+    public FireLayer claimBack() {
+        backWrites.clear();
+        backWritesTracked = false;
+        back.copyStatisticsFrom(front);
+        back.setStatisticsDeferred(true);
+        return back;
+    }
+
+    public FireLayer prepareBackIncrementally() {
+        if (!frontWritesTracked) return prepareBack();
+        for (int i = 0; i < frontWrites.size(); i++) {
+            back.copyFrom(front, frontWrites.get(i));
+        }
+        back.copyStatisticsFrom(front);
+        back.setStatisticsDeferred(false);
+        backWrites.clear();
+        backWritesTracked = true;
+        return back;
+    }
+
+    public void markWritten(int index) {
+        backWrites.add(index);
+    }
+
+    public void markWritten(IntList indices) {
+        for (int i = 0; i < indices.size(); i++) {
+            backWrites.add(indices.get(i));
+        }
+        backWritesTracked = true;
+    }
+
+    // null when the writer did not track its writes
+    public IntList getFrontWrites() {
+        return frontWritesTracked ? frontWrites : null;
+    }
+
+    public void swap() {
+        swapLock.writeLock().lock();
+        try {
+            FireLayer published = back;
+            back = front;
+            front = published;
+            IntList publishedWrites = backWrites;
+            backWrites = frontWrites;
+            frontWrites = publishedWrites;
+            frontWritesTracked = backWritesTracked;
+            generation++;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    public <T> T readPublished(BiFunction<PrimitiveBoard, FireLayer, T> reader) {
+        swapLock.readLock().lock();
+        try {
+            return reader.apply(board, front);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+}
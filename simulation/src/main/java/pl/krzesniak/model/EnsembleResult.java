@@ -0,0 +1,5 @@
+package pl.krzesniak.model;
+
+public record EnsembleResult(long seed, int replicas, int iterations, double[][] burnProbability,
+                             double[][] meanArrivalIteration, double[][] arrivalIterationVariance) {
+}
@@ -0,0 +1,118 @@
+package pl.krzesniak.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import pl.krzesniak.model.enums.ForestFireState;
+
+@Getter
+public class FireLayer {
+
+    public static final byte NONE = (byte) ForestFireState.NONE.ordinal();
+    public static final byte DESTROYED = (byte) ForestFireState.DESTROYED.ordinal();
+
+    private final boolean[] beingBurned;
+    private final boolean[] beingExtinguished;
+    private final double[] fieldPercentageDestroyed;
+    private final double[] fireSpeed;
+    private final byte[] forestFireState;
+    private final FireStatistics statistics;
+    @Setter
+    private boolean statisticsDeferred;
+
+    public FireLayer(int size) {
+        this(new boolean[size], new boolean[size], new double[size], new double[size], new byte[size]);
+        recount();
+    }
+
+    private FireLayer(boolean[] beingBurned, boolean[] beingExtinguished, double[] fieldPercentageDestroyed,
+                      double[] fireSpeed, byte[] forestFireState) {
+        this.beingBurned = beingBurned;
+        this.beingExtinguished = beingExtinguished;
+        this.fieldPercentageDestroyed = fieldPercentageDestroyed;
+        this.fireSpeed = fireSpeed;
+        this.forestFireState = forestFireState;
+        this.statistics = new FireStatistics(forestFireState.length);
+    }
+
+    public int size() {
+        return forestFireState.length;
+    }
+
+    public boolean isBeingBurned(int index) {
+        return forestFireState[index] != NONE;
+    }
+
+    public boolean isNotDestroyed(int index) {
+        return forestFireState[index] != DESTROYED;
+    }
+
+    public int getBurningPixels() {
+        return statistics.getBurningPixels();
+    }
+
+    public int getDestroyedPixels() {
+        return statistics.getDestroyedPixels();
+    }
+
+    public void setForestFireState(int index, ForestFireState state) {
+        setFire(index, fireSpeed[index], fieldPercentageDestroyed[index], state);
+    }
+
+    public void setFire(int index, double fireSpeed, double fieldPercentageDestroyed, ForestFireState state) {
+        if (!statisticsDeferred) {
+            statistics.add(forestFireState[index], this.fieldPercentageDestroyed[index], this.fireSpeed[index], -1);
+        }
+        this.fireSpeed[index] = fireSpeed;
+        this.fieldPercentageDestroyed[index] = fieldPercentageDestroyed;
+        forestFireState[index] = (byte) state.ordinal();
+        if (!statisticsDeferred) statistics.add(forestFireState[index], fieldPercentageDestroyed, fireSpeed, 1);
+    }
+
+    public void mergeStatistics(FireStatistics.Changes changes) {
+        statistics.merge(changes);
+    }
+
+    public void recount() {
+        statistics.reset();
+        for (int index = 0; index < forestFireState.length; index++) {
+            statistics.add(forestFireState[index], fieldPercentageDestroyed[index], fireSpeed[index], 1);
+        }
+    }
+
+    public void copyStatisticsFrom(FireLayer fireLayer) {
+        statistics.copyFrom(fireLayer.statistics);
+    }
+
+    public void copyFrom(FireLayer fireLayer) {
+        System.arraycopy(fireLayer.beingBurned, 0, beingBurned, 0, beingBurned.length);
+        System.arraycopy(fireLayer.beingExtinguished, 0, beingExtinguished, 0, beingExtinguished.length);
+        System.arraycopy(fireLayer.fieldPercentageDestroyed, 0, fieldPercentageDestroyed, 0, fieldPercentageDestroyed.length);
+        System.arraycopy(fireLayer.fireSpeed, 0, fireSpeed, 0, fireSpeed.length);
+        System.arraycopy(fireLayer.forestFireState, 0, forestFireState, 0, forestFireState.length);
+        copyStatisticsFrom(fireLayer);
+    }
+
+    public void copyFrom(FireLayer fireLayer, int fromIndex, int toIndex) {
+        int length = toIndex - fromIndex;
+        System.arraycopy(fireLayer.beingBurned, fromIndex, beingBurned, fromIndex, length);
+        System.arraycopy(fireLayer.beingExtinguished, fromIndex, beingExtinguished, fromIndex, length);
+        System.arraycopy(fireLayer.fieldPercentageDestroyed, fromIndex, fieldPercentageDestroyed, fromIndex, length);
+        System.arraycopy(fireLayer.fireSpeed, fromIndex, fireSpeed, fromIndex, length);
+        System.arraycopy(fireLayer.forestFireState, fromIndex, forestFireState, fromIndex, length);
+    }
+
+    public void copyFrom(FireLayer fireLayer, int index) {
+        beingBurned[index] = fireLayer.beingBurned[index];
+        beingExtinguished[index] = fireLayer.beingExtinguished[index];
+        fieldPercentageDestroyed[index] = fireLayer.fieldPercentageDestroyed[index];
+        fireSpeed[index] = fireLayer.fireSpeed[index];
+        forestFireState[index] = fireLayer.forestFireState[index];
+    }
+
+    public FireLayer createCopy() {
+        FireLayer copy = new FireLayer(beingBurned.clone(), beingExtinguished.clone(), fieldPercentageDestroyed.clone(),
+                fireSpeed.clone(), forestFireState.clone());
+        copy.copyStatisticsFrom(this);
+        return copy;
+    }
+}
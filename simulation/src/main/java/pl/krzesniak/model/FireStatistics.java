@@ -0,0 +1,136 @@
+package pl.krzesniak.model;
+
+import pl.krzesniak.model.enums.ForestFireState;
+import pl.krzesniak.service.PixelStartingBurningManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// sums are kept in fixed point, so taking a contribution out cancels it exactly
+public class FireStatistics {
+
+    private static final double FIXED_POINT_SCALE = 1_000_000.0;
+    private static final int STATES = ForestFireState.values().length;
+
+    private final int size;
+    private final AtomicIntegerArray pixelsByState = new AtomicIntegerArray(STATES);
+    private final LongAdder spreadingPixels = new LongAdder();
+    private final LongAdder burnedArea = new LongAdder();
+    private final LongAdder fireSpeed = new LongAdder();
+
+    public FireStatistics(int size) {
+        this.size = size;
+    }
+
+    public int getPixels(ForestFireState state) {
+        return pixelsByState.get(state.ordinal());
+    }
+
+    public Map<ForestFireState, Integer> getPixelsByState() {
+        Map<ForestFireState, Integer> pixels = new EnumMap<>(ForestFireState.class);
+        for (ForestFireState state : ForestFireState.values()) {
+            pixels.put(state, getPixels(state));
+        }
+        return pixels;
+    }
+
+    public int getBurningPixels() {
+        return size - getPixels(ForestFireState.NONE) - getPixels(ForestFireState.DESTROYED);
+    }
+
+    public int getDestroyedPixels() {
+        return getPixels(ForestFireState.DESTROYED);
+    }
+
+    public int getActivePerimeter() {
+        return spreadingPixels.intValue();
+    }
+
+    public double getBurnedArea() {
+        return burnedArea.sum() / FIXED_POINT_SCALE / 100.0;
+    }
+
+    public double getTotalFireSpeed() {
+        return fireSpeed.sum() / FIXED_POINT_SCALE;
+    }
+
+    void add(byte state, double fieldPercentageDestroyed, double pixelFireSpeed, int sign) {
+        if (state >= 0) pixelsByState.addAndGet(state, sign);
+        burnedArea.add(sign * toBurnedArea(fieldPercentageDestroyed));
+        if (state == FireLayer.NONE || state == FireLayer.DESTROYED) return;
+        fireSpeed.add(sign * toFixedPoint(pixelFireSpeed));
+        if (isSpreading(fieldPercentageDestroyed, pixelFireSpeed)) spreadingPixels.add(sign);
+    }
+
+    void merge(Changes changes) {
+        for (int state = 0; state < STATES; state++) {
+            if (changes.pixelsByState[state] != 0) pixelsByState.addAndGet(state, changes.pixelsByState[state]);
+        }
+        spreadingPixels.add(changes.spreadingPixels);
+        burnedArea.add(changes.burnedArea);
+        fireSpeed.add(changes.fireSpeed);
+    }
+
+    void reset() {
+        for (int state = 0; state < STATES; state++) {
+            pixelsByState.set(state, 0);
+        }
+        spreadingPixels.reset();
+        burnedArea.reset();
+        fireSpeed.reset();
+    }
+
+    void copyFrom(FireStatistics statistics) {
+        for (int state = 0; state < STATES; state++) {
+            pixelsByState.set(state, statistics.pixelsByState.get(state));
+        }
+        spreadingPixels.reset();
+        spreadingPixels.add(statistics.spreadingPixels.sum());
+        burnedArea.reset();
+        burnedArea.add(statistics.burnedArea.sum());
+        fireSpeed.reset();
+        fireSpeed.add(statistics.fireSpeed.sum());
+    }
+
+    private static long toFixedPoint(double value) {
+        return Math.round(value * FIXED_POINT_SCALE);
+    }
+
+    private static long toBurnedArea(double fieldPercentageDestroyed) {
+        return toFixedPoint(Math.min(fieldPercentageDestroyed, 100.0));
+    }
+
+    private static boolean isSpreading(double fieldPercentageDestroyed, double pixelFireSpeed) {
+        return fieldPercentageDestroyed > PixelStartingBurningManager.MIN_FIELD_DAMAGE_DESTROYED
+                || pixelFireSpeed > PixelStartingBurningManager.MIN_SPREADING_FIRE_SPEED;
+    }
+
+    // per-band changes, merged once per tick
+    public static class Changes {
+
+        private final int[] pixelsByState = new int[STATES];
+        private long spreadingPixels;
+        private long burnedArea;
+        private long fireSpeed;
+
+        public void collect(FireLayer previousFireLayer, FireLayer fireLayer, IntList indices) {
+            for (int i = 0; i < indices.size(); i++) {
+                int index = indices.get(i);
+                add(previousFireLayer.getForestFireState()[index], previousFireLayer.getFieldPercentageDestroyed()[index],
+                        previousFireLayer.getFireSpeed()[index], -1);
+                add(fireLayer.getForestFireState()[index], fireLayer.getFieldPercentageDestroyed()[index],
+                        fireLayer.getFireSpeed()[index], 1);
+            }
+        }
+
+        private void add(byte state, double fieldPercentageDestroyed, double pixelFireSpeed, int sign) {
+            if (state >= 0) pixelsByState[state] += sign;
+            burnedArea += sign * toBurnedArea(fieldPercentageDestroyed);
+            if (state == FireLayer.NONE || state == FireLayer.DESTROYED) return;
+            fireSpeed += sign * toFixedPoint(pixelFireSpeed);
+            if (isSpreading(fieldPercentageDestroyed, pixelFireSpeed)) spreadingPixels += sign;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package pl.krzesniak.model;
+
+import java.util.UUID;
+
+public record HistoryRange(UUID simulationId, long firstIteration, long lastIteration) {
+}
@@ -0,0 +1,126 @@
+package pl.krzesniak.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import pl.krzesniak.model.enums.Terrain;
+import pl.krzesniak.service.WindKernel;
+
+import java.util.Arrays;
+
+@Getter
+public class PrimitiveBoard {
+
+    public static final byte NO_VALUE = -1;
+    public static final byte VISIBLE = 1;
+    public static final byte TESTABLE = 1 << 1;
+    public static final byte CENTER = 1 << 2;
+    public static final byte HAS_SENSOR = 1 << 3;
+
+    private static final byte SAND = (byte) Terrain.SAND.ordinal();
+    private static final byte WATER = (byte) Terrain.WATER.ordinal();
+
+    private final int width;
+    private final int height;
+    private final byte[] terrain;
+    private final byte[] forestFireIndex;
+    private final double[] forestFireIndexValue;
+    private final double[] temperature;
+    private final double[] humidity;
+    private final double[] windDirection;
+    private final double[] windSpeed;
+    private final byte[] agentParameters;
+    private final double[] ownFireSpread;
+    private final short[] windBucket;
+    @Setter
+    private WindKernel windKernel;
+
+    public PrimitiveBoard(int width, int height) {
+        int size = width * height;
+        this.width = width;
+        this.height = height;
+        this.terrain = new byte[size];
+        this.forestFireIndex = new byte[size];
+        this.forestFireIndexValue = new double[size];
+        this.temperature = new double[size];
+        this.humidity = new double[size];
+        this.windDirection = new double[size];
+        this.windSpeed = new double[size];
+        this.agentParameters = new byte[size];
+        this.ownFireSpread = new double[size];
+        this.windBucket = new short[size];
+        Arrays.fill(ownFireSpread, Double.NaN);
+    }
+
+    private PrimitiveBoard(PrimitiveBoard board) {
+        this.width = board.width;
+        this.height = board.height;
+        this.terrain = board.terrain;
+        this.forestFireIndex = board.forestFireIndex;
+        this.forestFireIndexValue = board.forestFireIndexValue;
+        this.temperature = board.temperature.clone();
+        this.humidity = board.humidity.clone();
+        this.windDirection = board.windDirection.clone();
+        this.windSpeed = board.windSpeed.clone();
+        this.agentParameters = board.agentParameters;
+        this.ownFireSpread = board.ownFireSpread.clone();
+        this.windBucket = board.windBucket.clone();
+        this.windKernel = board.windKernel;
+    }
+
+    public int size() {
+        return width * height;
+    }
+
+    public int index(int row, int column) {
+        return row * width + column;
+    }
+
+    public int row(int index) {
+        return index / width;
+    }
+
+    public int column(int index) {
+        return index % width;
+    }
+
+    public boolean isBurnable(int index) {
+        return terrain[index] != SAND && terrain[index] != WATER;
+    }
+
+    public boolean hasAgentParameter(int index, byte agentParameter) {
+        return (agentParameters[index] & agentParameter) != 0;
+    }
+
+    public boolean hasOwnFireSpread(int index) {
+        return !Double.isNaN(ownFireSpread[index]);
+    }
+
+    public void setWeather(int index, double temperature, double humidity, double windDirection, double windSpeed) {
+        this.temperature[index] = temperature;
+        this.humidity[index] = humidity;
+        this.windDirection[index] = windDirection;
+        this.windSpeed[index] = windSpeed;
+        this.ownFireSpread[index] = Double.NaN;
+    }
+
+    public PrimitiveBoard createCopy() {
+        PrimitiveBoard copy = new PrimitiveBoard(width, height);
+        System.arraycopy(terrain, 0, copy.terrain, 0, terrain.length);
+        System.arraycopy(forestFireIndex, 0, copy.forestFireIndex, 0, forestFireIndex.length);
+        System.arraycopy(forestFireIndexValue, 0, copy.forestFireIndexValue, 0, forestFireIndexValue.length);
+        System.arraycopy(temperature, 0, copy.temperature, 0, temperature.length);
+        System.arraycopy(humidity, 0, copy.humidity, 0, humidity.length);
+        System.arraycopy(windDirection, 0, copy.windDirection, 0, windDirection.length);
+        System.arraycopy(windSpeed, 0, copy.windSpeed, 0, windSpeed.length);
+        System.arraycopy(agentParameters, 0, copy.agentParameters, 0, agentParameters.length);
+        System.arraycopy(ownFireSpread, 0, copy.ownFireSpread, 0, ownFireSpread.length);
+        System.arraycopy(windBucket, 0, copy.windBucket, 0, windBucket.length);
+        copy.windKernel = windKernel;
+        return copy;
+    }
+
+    // terrain, index and agent arrays stay shared
+    public PrimitiveBoard copyWeather() {
+        return new PrimitiveBoard(this);
+    }
+}
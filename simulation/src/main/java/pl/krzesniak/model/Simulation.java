@@ -0,0 +1,81 @@
+package pl.krzesniak.model;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import pl.krzesniak.model.enums.IterationMode;
+import pl.krzesniak.model.enums.QuiescencePolicy;
+import pl.krzesniak.service.BoardNeighbourhood;
+import pl.krzesniak.service.RandomStreams;
+import pl.krzesniak.service.frontier.FireFrontier;
+import pl.krzesniak.service.frontier.SelfIgnitionSampler;
+import pl.krzesniak.service.history.SimulationHistory;
+import pl.krzesniak.service.rule.FireModel;
+
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Getter
+public class Simulation {
+
+    private final UUID id;
+    private final DoubleBufferedBoard doubleBufferedBoard;
+    private final BoardNeighbourhood testingNeighbourhood;
+    private final RandomStreams randomStreams;
+    private final IterationMode iterationMode;
+    private final QuiescencePolicy quiescencePolicy;
+    private final FireModel fireModel;
+    private final ReentrantLock iterationLock = new ReentrantLock();
+    @Setter
+    private FireFrontier fireFrontier;
+    @Setter
+    private SelfIgnitionSampler selfIgnitionSampler;
+    @Setter
+    private SimulationHistory history;
+    @Setter
+    private volatile ScheduledFuture<?> scheduledIteration;
+    // only self-ignition can change the board
+    @Setter
+    private volatile boolean quiescent;
+    private final BoardPublicationState publicationState = new BoardPublicationState();
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    public Simulation(UUID id, DoubleBufferedBoard doubleBufferedBoard, BoardNeighbourhood testingNeighbourhood,
+                      RandomStreams randomStreams, IterationMode iterationMode, QuiescencePolicy quiescencePolicy,
+                      FireModel fireModel) {
+        this.id = id;
+        this.doubleBufferedBoard = doubleBufferedBoard;
+        this.testingNeighbourhood = testingNeighbourhood;
+        this.randomStreams = randomStreams;
+        this.iterationMode = iterationMode;
+        this.quiescencePolicy = quiescencePolicy;
+        this.fireModel = fireModel;
+    }
+
+    public PrimitiveBoard getBoard() {
+        return doubleBufferedBoard.getBoard();
+    }
+
+    public long getTick() {
+        return doubleBufferedBoard.getGeneration();
+    }
+
+    public boolean isFinished() {
+        return quiescent && quiescencePolicy == QuiescencePolicy.STOP;
+    }
+
+    public boolean isRunning() {
+        return scheduledIteration != null && !scheduledIteration.isDone();
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    public boolean close() {
+        return closed.compareAndSet(false, true);
+    }
+}
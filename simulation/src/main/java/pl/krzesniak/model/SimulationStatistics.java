@@ -0,0 +1,11 @@
+package pl.krzesniak.model;
+
+import pl.krzesniak.model.enums.ForestFireState;
+
+import java.util.Map;
+import java.util.UUID;
+
+public record SimulationStatistics(UUID simulationId, long tick, boolean quiescent, int burningPixels,
+                                   int destroyedPixels, int activePerimeter, double burnedArea, double totalFireSpeed,
+                                   Map<ForestFireState, Integer> pixelsByState) {
+}
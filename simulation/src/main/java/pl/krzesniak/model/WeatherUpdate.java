@@ -0,0 +1,4 @@
+package pl.krzesniak.model;
+
+public record WeatherUpdate(double temperature, double humidity, Wind wind) {
+}
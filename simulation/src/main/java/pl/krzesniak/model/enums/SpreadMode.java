@@ -0,0 +1,5 @@
+package pl.krzesniak.model.enums;
+
+public enum SpreadMode {
+    ISOTROPIC, WIND
+}
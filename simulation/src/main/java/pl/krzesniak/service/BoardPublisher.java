@@ -0,0 +1,132 @@
+package pl.krzesniak.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import pl.krzesniak.model.BoardPublicationState;
+import pl.krzesniak.model.PrimitiveBoard;
+import pl.krzesniak.model.Simulation;
+import pl.krzesniak.model.SimulationFinished;
+import pl.krzesniak.model.TiledFireBoard;
+import pl.krzesniak.model.UniqueForestBoard;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Service
+@Log4j2
+public class BoardPublisher {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final Counter conflatedGenerationsCounter;
+    // a simulation always publishes on the same lane, so its messages stay in order
+    private final ExecutorService[] publicationLanes;
+
+    @Value("${board.topic.name}")
+    private String uniqueBoardTopic;
+
+    @Value("${board.keyframe.interval:20}")
+    private int keyframeInterval = 20;
+
+    public BoardPublisher(KafkaTemplate<String, Object> kafkaTemplate, MeterRegistry meterRegistry,
+                          @Value("${simulation.publication.lanes:4}") int publicationLanes) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.publicationLanes = new ExecutorService[Math.max(publicationLanes, 1)];
+        for (int lane = 0; lane < this.publicationLanes.length; lane++) {
+            this.publicationLanes[lane] = Executors.newSingleThreadExecutor();
+        }
+        this.conflatedGenerationsCounter = Counter.builder("simulation.publication.conflated.generations")
+                .description("Generations skipped because a newer one was published in their place")
+                .register(meterRegistry);
+    }
+
+    // conflated, at most one publication per simulation is queued
+    public void requestPublication(Simulation simulation) {
+        var publicationState = simulation.getPublicationState();
+        if (simulation.isClosed() || !publicationState.getPublicationScheduled().compareAndSet(false, true)) return;
+        getPublicationLane(simulation).execute(() -> {
+            publicationState.getPublicationScheduled().set(false);
+            if (simulation.isClosed()) return;
+            try {
+                publish(simulation);
+            } catch (RuntimeException e) {
+                log.error("Publication of simulation {} failed", simulation.getId(), e);
+            }
+        });
+    }
+
+    public void announceFinished(Simulation simulation) {
+        if (!simulation.close()) return;
+        getPublicationLane(simulation).execute(() -> {
+            try {
+                publish(simulation);
+                kafkaTemplate.send(uniqueBoardTopic, simulation.getId().toString(),
+                        new SimulationFinished(simulation.getId().toString(), simulation.getTick()));
+            } catch (RuntimeException e) {
+                log.error("Announcing the end of simulation {} failed", simulation.getId(), e);
+            }
+        });
+    }
+
+    public void publish(Simulation simulation) {
+        synchronized (simulation.getPublicationState()) {
+            Object message = createMessage(simulation, false);
+            if (message != null) kafkaTemplate.send(uniqueBoardTopic, simulation.getId().toString(), message);
+        }
+    }
+
+    public void publishKeyframe(Simulation simulation) {
+        synchronized (simulation.getPublicationState()) {
+            kafkaTemplate.send(uniqueBoardTopic, simulation.getId().toString(), createMessage(simulation, true));
+        }
+    }
+
+    public Object createMessage(Simulation simulation, boolean keyframe) {
+        var publicationState = simulation.getPublicationState();
+        synchronized (publicationState) {
+            var snapshot = simulation.getHistory().getLatestSnapshot();
+            long generation = snapshot.iteration();
+            long publishedGeneration = publicationState.getPublishedGeneration();
+            if (!keyframe && generation == publishedGeneration) return null;
+            if (publishedGeneration >= 0 && generation - publishedGeneration > 1) {
+                publicationState.setConflatedGenerations(publicationState.getConflatedGenerations()
+                        + generation - publishedGeneration - 1);
+                conflatedGenerationsCounter.increment(generation - publishedGeneration - 1);
+            }
+            Object message = keyframe || isKeyframeNeeded(publicationState, generation)
+                    ? createKeyframe(simulation.getId().toString(), publicationState, generation, simulation.getBoard(),
+                    snapshot.fireBoard())
+                    : PrimitiveBoardConverter.toForestBoardDelta(simulation.getId().toString(), publishedGeneration,
+                    generation, publicationState.getPublishedFireBoard(), snapshot.fireBoard());
+            publicationState.setPublishedFireBoard(snapshot.fireBoard());
+            publicationState.setPublishedGeneration(generation);
+            return message;
+        }
+    }
+
+    private UniqueForestBoard createKeyframe(String id, BoardPublicationState publicationState, long generation,
+                                             PrimitiveBoard board, TiledFireBoard fireBoard) {
+        publicationState.setKeyframeGeneration(generation);
+        return new UniqueForestBoard(id, generation, PrimitiveBoardConverter.toForestPixels(board, fireBoard));
+    }
+
+    private boolean isKeyframeNeeded(BoardPublicationState publicationState, long generation) {
+        return publicationState.getPublishedFireBoard() == null
+                || generation - publicationState.getKeyframeGeneration() >= keyframeInterval;
+    }
+
+    private ExecutorService getPublicationLane(Simulation simulation) {
+        return publicationLanes[Math.floorMod(simulation.getId().hashCode(), publicationLanes.length)];
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService publicationLane : publicationLanes) {
+            publicationLane.shutdown();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package pl.krzesniak.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import pl.krzesniak.exception.InvalidSimulationRequestException;
+import pl.krzesniak.model.DoubleBufferedBoard;
+import pl.krzesniak.model.EnsembleResult;
+import pl.krzesniak.model.FireLayer;
+import pl.krzesniak.model.PrimitiveBoard;
+import pl.krzesniak.model.Simulation;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+@Service
+@RequiredArgsConstructor
+public class EnsembleRunner {
+
+    public static final int NOT_BURNED = -1;
+
+    private final ForestFireSimulator forestFireSimulator;
+    private final ForkJoinPool simulationComputePool;
+
+    public EnsembleResult run(Simulation simulation, int replicas, int iterations, long seed) {
+        if (replicas < 1 || iterations < 0) {
+            throw new InvalidSimulationRequestException("Ensemble needs at least one replica and a non-negative iteration count");
+        }
+        PrimitiveBoard board;
+        simulation.getIterationLock().lock();
+        try {
+            board = simulation.getBoard().copyWeather();
+        } finally {
+            simulation.getIterationLock().unlock();
+        }
+        FireLayer initialFireLayer = simulation.getDoubleBufferedBoard().readPublished((published, fire) -> fire.createCopy());
+        var statistics = new ArrivalStatistics(board.size());
+        simulationComputePool.invoke(new ReplicaRange(simulation, board, initialFireLayer, new RandomStreams(seed),
+                iterations, statistics, 0, replicas));
+        return statistics.toResult(board, seed, replicas, iterations);
+    }
+
+    private void runReplica(Simulation simulation, PrimitiveBoard board, FireLayer initialFireLayer,
+                            RandomStreams randomStreams, int iterations, ArrivalStatistics statistics, int replica) {
+        var buffers = new DoubleBufferedBoard(board, initialFireLayer.createCopy());
+        int[] arrivalIterations = new int[initialFireLayer.size()];
+        recordArrivals(buffers.getFront(), arrivalIterations, 0, true);
+        for (int iteration = 1; iteration <= iterations; iteration++) {
+            forestFireSimulator.runReplicaIteration(simulation.getFireModel(), buffers,
+                    simulation.getTestingNeighbourhood(), randomStreams, replica);
+            recordArrivals(buffers.getFront(), arrivalIterations, iteration, false);
+        }
+        statistics.add(arrivalIterations);
+    }
+
+    private void recordArrivals(FireLayer fireLayer, int[] arrivalIterations, int iteration, boolean initial) {
+        for (int i = 0; i < arrivalIterations.length; i++) {
+            if (initial) arrivalIterations[i] = fireLayer.isBeingBurned(i) ? 0 : NOT_BURNED;
+            else if (arrivalIterations[i] == NOT_BURNED && fireLayer.isBeingBurned(i)) arrivalIterations[i] = iteration;
+        }
+    }
+
+    private class ReplicaRange extends RecursiveAction {
+
+        private final Simulation simulation;
+        private final PrimitiveBoard board;
+        private final FireLayer initialFireLayer;
+        private final RandomStreams randomStreams;
+        private final int iterations;
+        private final ArrivalStatistics statistics;
+        private final int fromReplica;
+        private final int toReplica;
+
+        private ReplicaRange(Simulation simulation, PrimitiveBoard board, FireLayer initialFireLayer,
+                             RandomStreams randomStreams, int iterations, ArrivalStatistics statistics,
+                             int fromReplica, int toReplica) {
+            this.simulation = simulation;
+            this.board = board;
+            this.initialFireLayer = initialFireLayer;
+            this.randomStreams = randomStreams;
+            this.iterations = iterations;
+            this.statistics = statistics;
+            this.fromReplica = fromReplica;
+            this.toReplica = toReplica;
+        }
+
+        @Override
+        protected void compute() {
+            if (toReplica - fromReplica > 1) {
+                int middleReplica = (fromReplica + toReplica) >>> 1;
+                invokeAll(new ReplicaRange(simulation, board, initialFireLayer, randomStreams, iterations, statistics,
+                                fromReplica, middleReplica),
+                        new ReplicaRange(simulation, board, initialFireLayer, randomStreams, iterations, statistics,
+                                middleReplica, toReplica));
+                return;
+            }
+            if (fromReplica < toReplica) runReplica(simulation, board, initialFireLayer, randomStreams, iterations,
+                    statistics, fromReplica);
+        }
+    }
+
+    private static class ArrivalStatistics {
+
+        private final int[] burnedReplicas;
+        private final long[] arrivalSum;
+        private final long[] arrivalSquaresSum;
+
+        private ArrivalStatistics(int size) {
+            this.burnedReplicas = new int[size];
+            this.arrivalSum = new long[size];
+            this.arrivalSquaresSum = new long[size];
+        }
+
+        // integer sums make the result independent of the order in which replicas finish
+        private synchronized void add(int[] arrivalIterations) {
+            for (int i = 0; i < arrivalIterations.length; i++) {
+                int arrival = arrivalIterations[i];
+                if (arrival == NOT_BURNED) continue;
+                burnedReplicas[i]++;
+                arrivalSum[i] += arrival;
+                arrivalSquaresSum[i] += (long) arrival * arrival;
+            }
+        }
+
+        private synchronized EnsembleResult toResult(PrimitiveBoard board, long seed, int replicas, int iterations) {
+            double[][] burnProbability = new double[board.getHeight()][board.getWidth()];
+            double[][] meanArrival = new double[board.getHeight()][board.getWidth()];
+            double[][] arrivalVariance = new double[board.getHeight()][board.getWidth()];
+            for (int i = 0; i < board.getHeight(); i++) {
+                for (int j = 0; j < board.getWidth(); j++) {
+                    int index = board.index(i, j);
+                    int burned = burnedReplicas[index];
+                    burnProbability[i][j] = (double) burned / replicas;
+                    if (burned == 0) {
+                        meanArrival[i][j] = NOT_BURNED;
+                        continue;
+                    }
+                    double mean = (double) arrivalSum[index] / burned;
+                    meanArrival[i][j] = mean;
+                    arrivalVariance[i][j] = Math.max(0, (double) arrivalSquaresSum[index] / burned - mean * mean);
+                }
+            }
+            return new EnsembleResult(seed, replicas, iterations, burnProbability, meanArrival, arrivalVariance);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package pl.krzesniak.service;
 
 import org.springframework.stereotype.Service;
+import pl.krzesniak.model.FireLayer;
 import pl.krzesniak.model.ForestPixel;
+import pl.krzesniak.model.PrimitiveBoard;
 import pl.krzesniak.model.enums.ForestFireBurnedColor;
 import pl.krzesniak.model.enums.ForestFireState;
 
@@ -30,11 +32,48 @@ public class FireCalculator {
         return forestPixel.getFireParameter().getFireSpeed() + NEXT_ITERATION_FIRE_COEFFICIENT * currentIterationFireSpread;
     }
 
+    public double calculateFirePixelDamage(PrimitiveBoard board, FireLayer fireLayer, int index,
+                                           int minRow, int maxRow, int minColumn, int maxColumn) {
+        double ownForestFireSpread = calculateOwnFireSpreed(board, index);
+        double neighbourForestFireSpread = NEIGHBOUR_FIRE_COEFFICIENT * (board.getWindKernel() == null
+                ? calculateFireSpreedForNeighbours(board, fireLayer, minRow, maxRow, minColumn, maxColumn)
+                : calculateFireSpreedForNeighbours(board, fireLayer, board.getWindKernel(), index,
+                minRow, maxRow, minColumn, maxColumn));
+        double currentIterationFireSpread = ownForestFireSpread + neighbourForestFireSpread;
+        if (!fireLayer.isBeingBurned(index)) return currentIterationFireSpread;
+        return fireLayer.getFireSpeed()[index] + NEXT_ITERATION_FIRE_COEFFICIENT * currentIterationFireSpread;
+    }
+
     public double calculateOwnFireSpreed(ForestPixel pixel) {
-        double W = (int) Math.pow((pixel.getWind().speed() / 0.836), 2.0 / 3);
-        double R0 = A_COEFFICIENT * pixel.getTemperature() + B_COEFFICIENT * W + C_COEFFICIENT * (100 - pixel.getHumidity()) - D_COEFFICIENT;
-        double K_PHI = Math.exp((0.1783 * pixel.getWind().speed() * 0.342));
-        double K0 = Math.exp((pixel.getForestFireIndexValue() - 2) * (1.6 - 0.1) / (50 - 2) + 0.1);
+        return calculateOwnFireSpreed(pixel.getTemperature(), pixel.getHumidity(), pixel.getWind().speed(),
+                pixel.getForestFireIndexValue());
+    }
+
+    public double calculateOwnFireSpreed(PrimitiveBoard board, int index) {
+        if (board.hasOwnFireSpread(index)) return board.getOwnFireSpread()[index];
+        return calculateOwnFireSpreed(board.getTemperature()[index], board.getHumidity()[index],
+                board.getWindSpeed()[index], board.getForestFireIndexValue()[index]);
+    }
+
+    public void refreshOwnFireSpread(PrimitiveBoard board) {
+        for (int index = 0; index < board.size(); index++) {
+            refreshOwnFireSpread(board, index);
+        }
+    }
+
+    public void refreshOwnFireSpread(PrimitiveBoard board, int index) {
+        if (board.hasOwnFireSpread(index)) return;
+        board.getOwnFireSpread()[index] = calculateOwnFireSpreed(board.getTemperature()[index],
+                board.getHumidity()[index], board.getWindSpeed()[index], board.getForestFireIndexValue()[index]);
+        board.getWindBucket()[index] = WindKernel.bucket(board.getWindDirection()[index], board.getWindSpeed()[index]);
+        if (board.getWindKernel() != null) board.getWindKernel().prepare(board.getWindBucket()[index]);
+    }
+
+    public double calculateOwnFireSpreed(double temperature, double humidity, double windSpeed, double forestFireIndexValue) {
+        double W = (int) Math.pow((windSpeed / 0.836), 2.0 / 3);
+        double R0 = A_COEFFICIENT * temperature + B_COEFFICIENT * W + C_COEFFICIENT * (100 - humidity) - D_COEFFICIENT;
+        double K_PHI = Math.exp((0.1783 * windSpeed * 0.342));
+        double K0 = Math.exp((forestFireIndexValue - 2) * (1.6 - 0.1) / (50 - 2) + 0.1);
         double TK = 0.4;
         return R0 * K_PHI * K0 * TK;
     }
@@ -47,6 +86,33 @@ public class FireCalculator {
                 .sum();
     }
 
+    public double calculateFireSpreedForNeighbours(PrimitiveBoard board, FireLayer fireLayer,
+                                                   int minRow, int maxRow, int minColumn, int maxColumn) {
+        double fireSpread = 0;
+        for (int i = minRow; i <= maxRow; i++) {
+            for (int index = board.index(i, minColumn), last = board.index(i, maxColumn); index <= last; index++) {
+                if (fireLayer.isBeingBurned(index)) fireSpread += calculateOwnFireSpreed(board, index);
+            }
+        }
+        return fireSpread;
+    }
+
+    public double calculateFireSpreedForNeighbours(PrimitiveBoard board, FireLayer fireLayer, WindKernel windKernel,
+                                                   int index, int minRow, int maxRow, int minColumn, int maxColumn) {
+        int row = board.row(index);
+        int column = board.column(index);
+        double fireSpread = 0;
+        for (int i = minRow; i <= maxRow; i++) {
+            int offset = windKernel.offset(row - i, column - minColumn);
+            for (int neighbour = board.index(i, minColumn), last = board.index(i, maxColumn); neighbour <= last;
+                 neighbour++, offset--) {
+                if (fireLayer.isBeingBurned(neighbour)) fireSpread += calculateOwnFireSpreed(board, neighbour)
+                        * windKernel.getWeights(board.getWindBucket()[neighbour])[offset];
+            }
+        }
+        return fireSpread;
+    }
+
     public ForestFireState convertToForestFireState(double fireSpeed) {
         if(fireSpeed == 0) return NONE;
         else if(fireSpeed <= 1.25) return LOW;
@@ -67,5 +133,11 @@ public class FireCalculator {
         }
     }
 
+    public void updatePixelBurning(FireLayer fireLayer, int index, double firePixelDamage) {
+        double fieldPercentageDestroyed = fireLayer.getFieldPercentageDestroyed()[index] + firePixelDamage;
+        fireLayer.setFire(index, firePixelDamage, fieldPercentageDestroyed,
+                fieldPercentageDestroyed >= 100.0 ? DESTROYED : convertToForestFireState(firePixelDamage));
+    }
+
   //  public void setPixelAsDestroyed()
 }
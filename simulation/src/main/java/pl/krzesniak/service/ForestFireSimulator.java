@@ -2,68 +2,387 @@ package pl.krzesniak.service;
 
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.log4j.Log4j;
-import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import pl.krzesniak.exception.InvalidSimulationRequestException;
+import pl.krzesniak.exception.PixelNotFoundException;
+import pl.krzesniak.model.AdvanceResult;
+import pl.krzesniak.model.DoubleBufferedBoard;
+import pl.krzesniak.model.FireLayer;
+import pl.krzesniak.model.FireStatistics;
 import pl.krzesniak.model.ForestPixel;
+import pl.krzesniak.model.HistoryRange;
+import pl.krzesniak.model.IntList;
+import pl.krzesniak.model.PixelCoordinate;
+import pl.krzesniak.model.PrimitiveBoard;
+import pl.krzesniak.model.Simulation;
+import pl.krzesniak.model.SimulationStatistics;
+import pl.krzesniak.model.Wind;
+import pl.krzesniak.model.enums.IterationMode;
+import pl.krzesniak.model.enums.QuiescencePolicy;
+import pl.krzesniak.model.enums.SpreadMode;
+import pl.krzesniak.service.frontier.FireFrontier;
+import pl.krzesniak.service.checkpoint.SimulationCheckpoint;
+import pl.krzesniak.service.frontier.SelfIgnitionSampler;
+import pl.krzesniak.service.history.SimulationHistory;
+import pl.krzesniak.service.rule.DefaultFireModel;
+import pl.krzesniak.service.rule.FireModel;
+import pl.krzesniak.service.rule.FireModelRegistry;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
 
 @RequiredArgsConstructor
 @Service
 @Data
-@Log4j2
 public class ForestFireSimulator {
 
     private final ForestPixelHelper forestPixelHelper;
     private final FireCalculator fireCalculator;
     private final PixelStartingBurningManager startingBurningManager;
+    private final ForkJoinPool simulationComputePool;
+    private final FireModelRegistry fireModelRegistry;
 
-    private ForestPixel[][] board;
-    private ScheduledExecutorService scheduledExecutorService = Executors.newScheduledThreadPool(4);
+    public static final int FRONTIER_STREAM = -1;
+    public static final int SELF_IGNITION_STREAM = -2;
 
-    public void start() {
-        if (scheduledExecutorService.isShutdown()) scheduledExecutorService = Executors.newScheduledThreadPool(4);
-        scheduledExecutorService.scheduleWithFixedDelay(() -> {
-            log.info("XD");
-            runFireForestIteration();
-            //TODO call to mesearement service agentDashboard.agentIteration(board);
-        }, 0, 4, TimeUnit.SECONDS);
+    @Value("${simulation.iteration.mode:FULL}")
+    private IterationMode iterationMode;
+
+    @Value("${simulation.quiescence.policy:SELF_IGNITION}")
+    private QuiescencePolicy quiescencePolicy = QuiescencePolicy.SELF_IGNITION;
+
+    @Value("${simulation.spread.mode:ISOTROPIC}")
+    private SpreadMode spreadMode = SpreadMode.ISOTROPIC;
+
+    @Value("${simulation.parallel.band.rows:16}")
+    private int bandRows;
+
+    @Value("${simulation.history.size:256}")
+    private int historySize = 256;
+
+    public Simulation createSimulation(ForestPixel[][] board, long seed, IterationMode iterationMode) {
+        return createSimulation(board, seed, iterationMode, fireModelRegistry.get(DefaultFireModel.NAME));
+    }
+
+    public Simulation createSimulation(ForestPixel[][] board, long seed, IterationMode iterationMode, FireModel fireModel) {
+        return createSimulation(UUID.randomUUID(), new DoubleBufferedBoard(PrimitiveBoardConverter.toPrimitiveBoard(board),
+                PrimitiveBoardConverter.toFireLayer(board)), seed, iterationMode == null ? this.iterationMode : iterationMode,
+                quiescencePolicy, fireModel);
+    }
+
+    public Simulation restoreSimulation(SimulationCheckpoint checkpoint, FireModel fireModel) {
+        return createSimulation(checkpoint.simulationId(), new DoubleBufferedBoard(checkpoint.board(),
+                checkpoint.fireLayer(), checkpoint.tick()), checkpoint.seed(), checkpoint.iterationMode(),
+                checkpoint.quiescencePolicy(), fireModel);
     }
 
-    public void stop() {
-        this.scheduledExecutorService.shutdown();
+    private Simulation createSimulation(UUID id, DoubleBufferedBoard buffers, long seed, IterationMode iterationMode,
+                                        QuiescencePolicy quiescencePolicy, FireModel fireModel) {
+        PrimitiveBoard primitiveBoard = buffers.getBoard();
+        if (spreadMode == SpreadMode.WIND) {
+            primitiveBoard.setWindKernel(new WindKernel(forestPixelHelper.getBoardWindowTestingSize()));
+        }
+        fireCalculator.refreshOwnFireSpread(primitiveBoard);
+        BoardNeighbourhood testingNeighbourhood = new BoardNeighbourhood(forestPixelHelper.getPixelMathCalculator(),
+                primitiveBoard.getWidth(), primitiveBoard.getHeight(), forestPixelHelper.getBoardWindowTestingSize());
+        Simulation simulation = new Simulation(id, buffers, testingNeighbourhood, new RandomStreams(seed), iterationMode,
+                quiescencePolicy, fireModel);
+        simulation.setHistory(new SimulationHistory(Math.max(historySize, 1), buffers.getGeneration(),
+                PrimitiveBoardConverter.toTiledFireBoard(primitiveBoard, buffers.getFront())));
+        simulation.setQuiescent(detectQuiescence(simulation));
+        return simulation;
+    }
+
+    public void updateWeather(Simulation simulation, String id, double temperature, double humidity, Wind wind) {
+        if (wind == null) throw new InvalidSimulationRequestException("A weather update needs a wind");
+        PrimitiveBoard primitiveBoard = simulation.getBoard();
+        int index = toIndex(primitiveBoard, id);
+        simulation.getIterationLock().lock();
+        try {
+            primitiveBoard.setWeather(index, temperature, humidity, wind.direction(), wind.speed());
+            fireCalculator.refreshOwnFireSpread(primitiveBoard, index);
+        } finally {
+            simulation.getIterationLock().unlock();
+        }
+    }
 
-        //TODO notify measurement service
+    public ForestPixel[][] getBoard(Simulation simulation) {
+        return simulation.getDoubleBufferedBoard().readPublished(PrimitiveBoardConverter::toForestPixels);
     }
 
-    public void runFireForestIteration() {
-        var copyBoard = BoardCopier.createCopyOfBoard(board);
-        forestPixelHelper.setBoard(board);
-        for (int i = 0; i < board.length; i++) {
-            for (int j = 0; j < board[0].length; j++) {
-                var pixel = board[i][j];
-                List<ForestPixel> neighbours = forestPixelHelper.createTestingSurroundingsForPixel(pixel.getId());
-                if (!pixel.isBeingBurned() && startingBurningManager.isPixelStartingBurning(pixel, neighbours)) {
-                    startingBurningManager.setPixelValueToBeBurned(copyBoard[i][j]);
-                } else if (pixel.isBeingBurned() && pixel.isNotDestroyed()) {
-                    double firePixelDamage = fireCalculator.calculateFirePixelDamage(copyBoard[i][j], neighbours);
-                    fireCalculator.updatePixelBurning(copyBoard[i][j], firePixelDamage);
+    public SimulationStatistics getStatistics(Simulation simulation) {
+        return simulation.getDoubleBufferedBoard().readPublished((primitiveBoard, fireLayer) -> {
+            var statistics = fireLayer.getStatistics();
+            return new SimulationStatistics(simulation.getId(), simulation.getTick(), simulation.isQuiescent(),
+                    statistics.getBurningPixels(), statistics.getDestroyedPixels(), statistics.getActivePerimeter(),
+                    statistics.getBurnedArea(), statistics.getTotalFireSpeed(), statistics.getPixelsByState());
+        });
+    }
+
+    public void runFireForestIteration(Simulation simulation) {
+        simulation.getIterationLock().lock();
+        try {
+            if (simulation.isQuiescent() && simulation.getIterationMode() != IterationMode.FRONTIER) {
+                runSelfIgnitionIteration(simulation);
+            } else {
+                switch (simulation.getIterationMode()) {
+                    case FULL -> runFullIteration(simulation);
+                    case FRONTIER -> runFrontierIteration(simulation);
+                    case PARALLEL -> runParallelIteration(simulation);
                 }
             }
+            var buffers = simulation.getDoubleBufferedBoard();
+            simulation.getHistory().record(buffers.getGeneration(), buffers.getFront(), buffers.getFrontWrites());
+            simulation.setQuiescent(detectQuiescence(simulation));
+        } finally {
+            simulation.getIterationLock().unlock();
         }
-        this.board = copyBoard;
     }
 
-    public ForestPixel getPixelById(String id) {
-        Integer[] idRowAndColumn = Arrays.stream(id.split(":")).map(Integer::parseInt).toArray(Integer[]::new);
-        return this.board[idRowAndColumn[0]][idRowAndColumn[1]];
+    public AdvanceResult advance(Simulation simulation, int iterations) {
+        if (iterations < 1) throw new InvalidSimulationRequestException("At least one iteration has to be requested");
+        return simulationComputePool.submit(() -> {
+            simulation.getIterationLock().lock();
+            try {
+                long startTime = System.nanoTime();
+                int completedIterations = 0;
+                while (completedIterations < iterations && !simulation.isFinished()) {
+                    runFireForestIteration(simulation);
+                    completedIterations++;
+                }
+                long elapsedNanos = System.nanoTime() - startTime;
+                return new AdvanceResult(simulation.getId(), completedIterations, simulation.getTick(),
+                        TimeUnit.NANOSECONDS.toMillis(elapsedNanos), completedIterations * 1e9 / Math.max(elapsedNanos, 1));
+            } finally {
+                simulation.getIterationLock().unlock();
+            }
+        }).join();
     }
 
+    private void runFullIteration(Simulation simulation) {
+        runReplicaIteration(simulation.getFireModel(), simulation.getDoubleBufferedBoard(),
+                simulation.getTestingNeighbourhood(), simulation.getRandomStreams(), 0);
+    }
 
-}
+    public void runReplicaIteration(FireModel fireModel, DoubleBufferedBoard buffers, BoardNeighbourhood neighbourhood,
+                                    RandomStreams randomStreams, int replica) {
+        var primitiveBoard = buffers.getBoard();
+        var currentFireLayer = buffers.getFront();
+        var nextFireLayer = buffers.claimBack();
+        IntList writes = new IntList();
+        for (int band = 0, bands = countBands(primitiveBoard); band < bands; band++) {
+            iterateBand(fireModel, primitiveBoard, currentFireLayer, nextFireLayer, neighbourhood,
+                    randomStreams.forStream(buffers.getGeneration(), band, replica), band, writes);
+        }
+        FireStatistics.Changes changes = new FireStatistics.Changes();
+        changes.collect(currentFireLayer, nextFireLayer, writes);
+        nextFireLayer.mergeStatistics(changes);
+        buffers.markWritten(writes);
+        buffers.swap();
+    }
+
+    private void runParallelIteration(Simulation simulation) {
+        var buffers = simulation.getDoubleBufferedBoard();
+        var primitiveBoard = buffers.getBoard();
+        var nextFireLayer = buffers.claimBack();
+        IntList[] bandWrites = new IntList[countBands(primitiveBoard)];
+        FireStatistics.Changes[] bandChanges = new FireStatistics.Changes[bandWrites.length];
+        simulationComputePool.invoke(new BandIteration(simulation.getFireModel(), primitiveBoard, buffers.getFront(),
+                nextFireLayer, simulation.getTestingNeighbourhood(), simulation.getRandomStreams(),
+                buffers.getGeneration(), bandWrites, bandChanges, 0, bandWrites.length));
+        for (int band = 0; band < bandWrites.length; band++) {
+            nextFireLayer.mergeStatistics(bandChanges[band]);
+            buffers.markWritten(bandWrites[band]);
+        }
+        buffers.swap();
+    }
+
+    private int countBands(PrimitiveBoard primitiveBoard) {
+        return (primitiveBoard.getHeight() + bandRows - 1) / bandRows;
+    }
 
+    // streams keyed on (seed, tick, band) keep FULL and PARALLEL ticks identical
+    private void iterateBand(FireModel fireModel, PrimitiveBoard primitiveBoard, FireLayer currentFireLayer,
+                             FireLayer nextFireLayer, BoardNeighbourhood neighbourhood, RandomGenerator random, int band,
+                             IntList writes) {
+        int fromRow = band * bandRows;
+        int toRow = Math.min(fromRow + bandRows, primitiveBoard.getHeight());
+        nextFireLayer.copyFrom(currentFireLayer, primitiveBoard.index(fromRow, 0), primitiveBoard.index(toRow, 0));
+        for (int i = fromRow; i < toRow; i++) {
+            for (int j = 0; j < primitiveBoard.getWidth(); j++) {
+                if (evaluatePixel(fireModel, primitiveBoard, currentFireLayer, nextFireLayer, i, j, neighbourhood,
+                        random)) writes.add(primitiveBoard.index(i, j));
+            }
+        }
+    }
+
+    private void runFrontierIteration(Simulation simulation) {
+        var buffers = simulation.getDoubleBufferedBoard();
+        var randomStreams = simulation.getRandomStreams();
+        var primitiveBoard = buffers.getBoard();
+        var currentFireLayer = buffers.getFront();
+        var neighbourhood = simulation.getTestingNeighbourhood();
+        if (simulation.getFireFrontier() == null) {
+            simulation.setFireFrontier(new FireFrontier(primitiveBoard, currentFireLayer, neighbourhood));
+        }
+        var fireFrontier = simulation.getFireFrontier();
+        var nextFireLayer = buffers.prepareBackIncrementally();
+        IntList activePixels = fireFrontier.activate(currentFireLayer);
+        RandomGenerator random = randomStreams.forTile(buffers.getGeneration(), FRONTIER_STREAM);
+        for (int i = 0; i < activePixels.size(); i++) {
+            int index = activePixels.get(i);
+            if (evaluatePixel(simulation.getFireModel(), primitiveBoard, currentFireLayer, nextFireLayer,
+                    primitiveBoard.row(index), primitiveBoard.column(index), neighbourhood, random)) {
+                buffers.markWritten(index);
+                if (!currentFireLayer.isBeingBurned(index)) fireFrontier.addIgnited(index);
+            }
+        }
+        getSelfIgnitionSampler(simulation).sample(randomStreams.forTile(buffers.getGeneration(), SELF_IGNITION_STREAM), index -> {
+            if (fireFrontier.isActive(index) || currentFireLayer.isBeingBurned(index)) return;
+            simulation.getFireModel().getTransitionRule().ignite(primitiveBoard, nextFireLayer, index);
+            buffers.markWritten(index);
+            fireFrontier.addIgnited(index);
+        });
+        fireFrontier.advance(nextFireLayer);
+        buffers.swap();
+    }
+
+    private void runSelfIgnitionIteration(Simulation simulation) {
+        var buffers = simulation.getDoubleBufferedBoard();
+        var primitiveBoard = buffers.getBoard();
+        var currentFireLayer = buffers.getFront();
+        var nextFireLayer = buffers.prepareBackIncrementally();
+        getSelfIgnitionSampler(simulation).sample(simulation.getRandomStreams().forTile(buffers.getGeneration(),
+                SELF_IGNITION_STREAM), index -> {
+            if (currentFireLayer.isBeingBurned(index)) return;
+            simulation.getFireModel().getTransitionRule().ignite(primitiveBoard, nextFireLayer, index);
+            buffers.markWritten(index);
+        });
+        buffers.swap();
+    }
+
+    private SelfIgnitionSampler getSelfIgnitionSampler(Simulation simulation) {
+        if (simulation.getSelfIgnitionSampler() == null) {
+            simulation.setSelfIgnitionSampler(new SelfIgnitionSampler(simulation.getBoard(),
+                    simulation.getFireModel().getIgnitionRule()));
+        }
+        return simulation.getSelfIgnitionSampler();
+    }
+
+    private boolean detectQuiescence(Simulation simulation) {
+        FireLayer fireLayer = simulation.getDoubleBufferedBoard().getFront();
+        if (fireLayer.getBurningPixels() > 0) return false;
+        if (simulation.isQuiescent() || fireLayer.getDestroyedPixels() == 0) return true;
+        for (int index = 0; index < fireLayer.size(); index++) {
+            if (!fireLayer.isNotDestroyed(index) && FireFrontier.canStillChange(simulation.getBoard(),
+                    simulation.getTestingNeighbourhood(), fireLayer, index)) return false;
+        }
+        return true;
+    }
+
+    private boolean evaluatePixel(FireModel fireModel, PrimitiveBoard primitiveBoard, FireLayer currentFireLayer,
+                                  FireLayer nextFireLayer, int row, int column, BoardNeighbourhood neighbourhood,
+                                  RandomGenerator random) {
+        int index = primitiveBoard.index(row, column);
+        int minRow = neighbourhood.getMinRow(row);
+        int maxRow = neighbourhood.getMaxRow(row);
+        int minColumn = neighbourhood.getMinColumn(column);
+        int maxColumn = neighbourhood.getMaxColumn(column);
+        if (!currentFireLayer.isBeingBurned(index) && fireModel.getIgnitionRule().isIgniting(primitiveBoard,
+                currentFireLayer, index, minRow, maxRow, minColumn, maxColumn, random.nextDouble())) {
+            fireModel.getTransitionRule().ignite(primitiveBoard, nextFireLayer, index);
+            return true;
+        } else if (currentFireLayer.isBeingBurned(index) && currentFireLayer.isNotDestroyed(index)) {
+            double firePixelDamage = fireModel.getSpreadRule().calculateDamage(primitiveBoard, currentFireLayer, index,
+                    minRow, maxRow, minColumn, maxColumn);
+            fireModel.getTransitionRule().burn(nextFireLayer, index, firePixelDamage);
+            return true;
+        }
+        return false;
+    }
+
+    private class BandIteration extends RecursiveAction {
+
+        private final FireModel fireModel;
+        private final PrimitiveBoard primitiveBoard;
+        private final FireLayer currentFireLayer;
+        private final FireLayer nextFireLayer;
+        private final BoardNeighbourhood neighbourhood;
+        private final RandomStreams randomStreams;
+        private final long tick;
+        private final IntList[] bandWrites;
+        private final FireStatistics.Changes[] bandChanges;
+        private final int fromBand;
+        private final int toBand;
+
+        private BandIteration(FireModel fireModel, PrimitiveBoard primitiveBoard, FireLayer currentFireLayer,
+                              FireLayer nextFireLayer, BoardNeighbourhood neighbourhood, RandomStreams randomStreams,
+                              long tick, IntList[] bandWrites, FireStatistics.Changes[] bandChanges, int fromBand,
+                              int toBand) {
+            this.fireModel = fireModel;
+            this.primitiveBoard = primitiveBoard;
+            this.currentFireLayer = currentFireLayer;
+            this.nextFireLayer = nextFireLayer;
+            this.neighbourhood = neighbourhood;
+            this.randomStreams = randomStreams;
+            this.tick = tick;
+            this.bandWrites = bandWrites;
+            this.bandChanges = bandChanges;
+            this.fromBand = fromBand;
+            this.toBand = toBand;
+        }
+
+        @Override
+        protected void compute() {
+            if (toBand - fromBand > 1) {
+                int middleBand = (fromBand + toBand) >>> 1;
+                invokeAll(new BandIteration(fireModel, primitiveBoard, currentFireLayer, nextFireLayer, neighbourhood,
+                                randomStreams, tick, bandWrites, bandChanges, fromBand, middleBand),
+                        new BandIteration(fireModel, primitiveBoard, currentFireLayer, nextFireLayer, neighbourhood,
+                                randomStreams, tick, bandWrites, bandChanges, middleBand, toBand));
+                return;
+            }
+            if (fromBand < toBand) {
+                bandWrites[fromBand] = new IntList();
+                iterateBand(fireModel, primitiveBoard, currentFireLayer, nextFireLayer, neighbourhood,
+                        randomStreams.forTile(tick, fromBand), fromBand, bandWrites[fromBand]);
+                bandChanges[fromBand] = new FireStatistics.Changes();
+                bandChanges[fromBand].collect(currentFireLayer, nextFireLayer, bandWrites[fromBand]);
+            }
+        }
+    }
+
+    public ForestPixel getPixelById(Simulation simulation, String id) {
+        return simulation.getDoubleBufferedBoard().readPublished((primitiveBoard, fireLayer) -> PrimitiveBoardConverter.toForestPixel(
+                primitiveBoard, fireLayer, toIndex(primitiveBoard, id)));
+    }
+
+    public HistoryRange getHistoryRange(Simulation simulation) {
+        var history = simulation.getHistory();
+        return new HistoryRange(simulation.getId(), history.getFirstIteration(), history.getLastIteration());
+    }
+
+    public ForestPixel[][] getBoard(Simulation simulation, long iteration) {
+        return simulation.getHistory().getBoard(simulation.getBoard(), iteration);
+    }
+
+    public ForestPixel getPixelById(Simulation simulation, long iteration, String id) {
+        return simulation.getHistory().getPixel(simulation.getBoard(), iteration, toIndex(simulation.getBoard(), id));
+    }
+
+    private int toIndex(PrimitiveBoard primitiveBoard, String id) {
+        PixelCoordinate coordinate = PixelCoordinate.tryParse(id);
+        if (coordinate == null || coordinate.row() < 0 || coordinate.row() >= primitiveBoard.getHeight()
+                || coordinate.column() < 0 || coordinate.column() >= primitiveBoard.getWidth()) {
+            throw new PixelNotFoundException("Pixel " + id + " is not on the " + primitiveBoard.getHeight() + "x"
+                    + primitiveBoard.getWidth() + " board");
+        }
+        return coordinate.index(primitiveBoard.getWidth());
+    }
+
+
+}
@@ -2,7 +2,9 @@ package pl.krzesniak.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import pl.krzesniak.model.FireLayer;
 import pl.krzesniak.model.ForestPixel;
+import pl.krzesniak.model.PrimitiveBoard;
 import pl.krzesniak.model.enums.ForestFireBurnedColor;
 import pl.krzesniak.model.enums.Terrain;
 
@@ -13,6 +15,7 @@ import java.util.List;
 public class PixelStartingBurningManager {
 
     public static final int MIN_FIELD_DAMAGE_DESTROYED = 20;
+    public static final double MIN_SPREADING_FIRE_SPEED = 4.5;
     private final FireCalculator fireCalculator;
     public static final double SELF_BURNING_COEFFICIENT = 400.0;
     public static final double NEIGHBOUR_FIRE_COEFFICIENT = 0.20;
@@ -26,12 +29,25 @@ public class PixelStartingBurningManager {
         pixel.getFireParameter().setForestFireState(fireCalculator.convertToForestFireState(fireSpeed));
     }
 
+    public void setPixelValueToBeBurned(PrimitiveBoard board, FireLayer fireLayer, int index) {
+        fireLayer.getBeingBurned()[index] = true;
+        double fireSpeed = fireCalculator.calculateOwnFireSpreed(board, index);
+        fireLayer.setFire(index, fireSpeed, 1, fireCalculator.convertToForestFireState(fireSpeed));
+    }
+
     public boolean isPixelStartingBurning(ForestPixel forestPixel, List<ForestPixel> neighbours) {
         if (forestPixel.getTerrain() == Terrain.SAND || forestPixel.getTerrain() == Terrain.WATER) return false;
         double probability = calculateProbabilityOfPixelBurning(forestPixel, neighbours);
         return Math.random() * (0.85) + 0.15 <= probability;
     }
 
+    public boolean isPixelStartingBurning(PrimitiveBoard board, FireLayer fireLayer, int index,
+                                          int minRow, int maxRow, int minColumn, int maxColumn, double random) {
+        if (!board.isBurnable(index)) return false;
+        double probability = calculateProbabilityOfPixelBurning(board, fireLayer, index, minRow, maxRow, minColumn, maxColumn);
+        return random * (0.85) + 0.15 <= probability;
+    }
+
     public double calculateProbabilityOfPixelBurning(ForestPixel forestPixel, List<ForestPixel> neighbours) {
         var probabilityOfPixelBurningItself = calculateProbabilityOfPixelBurningItself(forestPixel);
         var probabilityOfPixelBurningBasedOnNeighbours = calculateProbabilityOfPixelBurningBasedOnNeighbours(neighbours);
@@ -39,6 +55,20 @@ public class PixelStartingBurningManager {
     }
 
 
+    public double calculateSelfIgnitionChance(PrimitiveBoard board, int index) {
+        if (!board.isBurnable(index)) return 0;
+        double chance = (calculateProbabilityOfPixelBurningItself(board, index) - 0.15) / 0.85;
+        return Math.min(Math.max(chance, 0), 1);
+    }
+
+    public double calculateProbabilityOfPixelBurning(PrimitiveBoard board, FireLayer fireLayer, int index,
+                                                     int minRow, int maxRow, int minColumn, int maxColumn) {
+        var probabilityOfPixelBurningItself = calculateProbabilityOfPixelBurningItself(board, index);
+        var probabilityOfPixelBurningBasedOnNeighbours = calculateProbabilityOfPixelBurningBasedOnNeighbours(
+                board, fireLayer, minRow, maxRow, minColumn, maxColumn);
+        return probabilityOfPixelBurningItself + probabilityOfPixelBurningBasedOnNeighbours * NEIGHBOUR_FIRE_COEFFICIENT;
+    }
+
     public double calculateProbabilityOfPixelBurningBasedOnNeighbours(List<ForestPixel> neighbours) {
         return neighbours.stream()
                 .filter(ForestPixel::isBeingBurned)
@@ -48,16 +78,42 @@ public class PixelStartingBurningManager {
                 .sum();
     }
 
+    public double calculateProbabilityOfPixelBurningBasedOnNeighbours(PrimitiveBoard board, FireLayer fireLayer,
+                                                                      int minRow, int maxRow, int minColumn, int maxColumn) {
+        double probability = 0;
+        for (int i = minRow; i <= maxRow; i++) {
+            for (int index = board.index(i, minColumn), last = board.index(i, maxColumn); index <= last; index++) {
+                if (fireLayer.isBeingBurned(index) && canNeighbourWidespreadFire(fireLayer, index)) {
+                    probability += calculateProbabilityOfPixelBurning(fireLayer, index);
+                }
+            }
+        }
+        return probability;
+    }
+
     public double calculateProbabilityOfPixelBurningItself(ForestPixel forestPixel) {
         return forestPixel.getForestFireIndexValue() / SELF_BURNING_COEFFICIENT;
     }
 
+    public double calculateProbabilityOfPixelBurningItself(PrimitiveBoard board, int index) {
+        return board.getForestFireIndexValue()[index] / SELF_BURNING_COEFFICIENT;
+    }
+
     public double calculateProbabilityOfPixelBurning(ForestPixel forestPixel) {
         return forestPixel.getFireParameter().getFireSpeed() * 0.2;
     }
 
+    public double calculateProbabilityOfPixelBurning(FireLayer fireLayer, int index) {
+        return fireLayer.getFireSpeed()[index] * 0.2;
+    }
+
     public boolean canNeighbourWidespreadFire(ForestPixel pixel) {
         return pixel.getFireParameter().getFieldPercentageDestroyed() > MIN_FIELD_DAMAGE_DESTROYED
-                || pixel.getFireParameter().getFireSpeed() > 4.5;
+                || pixel.getFireParameter().getFireSpeed() > MIN_SPREADING_FIRE_SPEED;
+    }
+
+    public boolean canNeighbourWidespreadFire(FireLayer fireLayer, int index) {
+        return fireLayer.getFieldPercentageDestroyed()[index] > MIN_FIELD_DAMAGE_DESTROYED
+                || fireLayer.getFireSpeed()[index] > MIN_SPREADING_FIRE_SPEED;
     }
 }
@@ -0,0 +1,202 @@
+package pl.krzesniak.service;
+
+import pl.krzesniak.model.*;
+import pl.krzesniak.model.enums.ForestFireBurnedColor;
+import pl.krzesniak.model.enums.ForestFireIndex;
+import pl.krzesniak.model.enums.ForestFireState;
+import pl.krzesniak.model.enums.Terrain;
+
+import static pl.krzesniak.model.PrimitiveBoard.*;
+
+public class PrimitiveBoardConverter {
+
+    private static final Terrain[] TERRAINS = Terrain.values();
+    private static final ForestFireIndex[] FOREST_FIRE_INDEXES = ForestFireIndex.values();
+    private static final ForestFireState[] FOREST_FIRE_STATES = ForestFireState.values();
+
+    public static PrimitiveBoard toPrimitiveBoard(ForestPixel[][] board) {
+        PrimitiveBoard primitiveBoard = new PrimitiveBoard(board[0].length, board.length);
+        for (int i = 0; i < board.length; i++) {
+            for (int j = 0; j < board[0].length; j++) {
+                ForestPixel pixel = board[i][j];
+                int index = primitiveBoard.index(i, j);
+                primitiveBoard.getTerrain()[index] = toByte(pixel.getTerrain());
+                primitiveBoard.getForestFireIndex()[index] = toByte(pixel.getForestFireIndex());
+                primitiveBoard.getForestFireIndexValue()[index] = pixel.getForestFireIndexValue();
+                primitiveBoard.getTemperature()[index] = pixel.getTemperature();
+                primitiveBoard.getHumidity()[index] = pixel.getHumidity();
+                if (pixel.getWind() != null) {
+                    primitiveBoard.getWindDirection()[index] = pixel.getWind().direction();
+                    primitiveBoard.getWindSpeed()[index] = pixel.getWind().speed();
+                }
+                primitiveBoard.getAgentParameters()[index] = toByte(pixel.getAgentParameters());
+            }
+        }
+        return primitiveBoard;
+    }
+
+    public static FireLayer toFireLayer(ForestPixel[][] board) {
+        FireLayer fireLayer = new FireLayer(board.length * board[0].length);
+        int width = board[0].length;
+        for (int i = 0; i < board.length; i++) {
+            for (int j = 0; j < width; j++) {
+                FireParameter fireParameter = board[i][j].getFireParameter();
+                int index = i * width + j;
+                fireLayer.getBeingBurned()[index] = fireParameter.isBeingBurned();
+                fireLayer.getBeingExtinguished()[index] = fireParameter.isBeingExtinguished();
+                fireLayer.getFieldPercentageDestroyed()[index] = fireParameter.getFieldPercentageDestroyed();
+                fireLayer.getFireSpeed()[index] = fireParameter.getFireSpeed();
+                fireLayer.getForestFireState()[index] = toByte(fireParameter.getForestFireState());
+            }
+        }
+        fireLayer.recount();
+        return fireLayer;
+    }
+
+    public static FireLayer toFireLayer(TiledFireBoard fireBoard) {
+        FireLayer fireLayer = new FireLayer(fireBoard.size());
+        fireBoard.copyTo(fireLayer.getBeingBurned(), fireLayer.getBeingExtinguished(),
+                fireLayer.getFieldPercentageDestroyed(), fireLayer.getFireSpeed(), fireLayer.getForestFireState());
+        fireLayer.recount();
+        return fireLayer;
+    }
+
+    public static TiledFireBoard toTiledFireBoard(PrimitiveBoard board, FireLayer fireLayer) {
+        return toTiledFireBoard(board.getWidth(), board.getHeight(), fireLayer);
+    }
+
+    public static TiledFireBoard toTiledFireBoard(int width, int height, FireLayer fireLayer) {
+        return TiledFireBoard.of(width, height, fireLayer.getBeingBurned(), fireLayer.getBeingExtinguished(),
+                fireLayer.getFieldPercentageDestroyed(), fireLayer.getFireSpeed(), fireLayer.getForestFireState());
+    }
+
+    public static TiledFireBoard updateTiledFireBoard(TiledFireBoard fireBoard, FireLayer fireLayer, IntList indices) {
+        TiledFireBoard.Editor editor = fireBoard.edit();
+        for (int i = 0; i < indices.size(); i++) {
+            int index = indices.get(i);
+            editor.set(index, fireLayer.getBeingBurned()[index], fireLayer.getBeingExtinguished()[index],
+                    fireLayer.getFieldPercentageDestroyed()[index], fireLayer.getFireSpeed()[index],
+                    fireLayer.getForestFireState()[index]);
+        }
+        return editor.build();
+    }
+
+    public static ForestPixel[][] toForestPixels(PrimitiveBoard board, FireLayer fireLayer) {
+        ForestPixel[][] pixels = new ForestPixel[board.getHeight()][board.getWidth()];
+        for (int i = 0; i < board.getHeight(); i++) {
+            for (int j = 0; j < board.getWidth(); j++) {
+                pixels[i][j] = toForestPixel(board, fireLayer, board.index(i, j));
+            }
+        }
+        return pixels;
+    }
+
+    public static ForestPixel[][] toForestPixels(PrimitiveBoard board, TiledFireBoard fireBoard) {
+        ForestPixel[][] pixels = new ForestPixel[board.getHeight()][board.getWidth()];
+        for (int i = 0; i < board.getHeight(); i++) {
+            for (int j = 0; j < board.getWidth(); j++) {
+                pixels[i][j] = toForestPixel(board, fireBoard, board.index(i, j));
+            }
+        }
+        return pixels;
+    }
+
+    public static ForestPixel toForestPixel(PrimitiveBoard board, FireLayer fireLayer, int index) {
+        return toForestPixel(board, index, toFireParameter(fireLayer.getBeingBurned()[index],
+                fireLayer.getBeingExtinguished()[index], fireLayer.getFieldPercentageDestroyed()[index],
+                fireLayer.getForestFireState()[index], fireLayer.getFireSpeed()[index]));
+    }
+
+    public static ForestPixel toForestPixel(PrimitiveBoard board, TiledFireBoard fireBoard, int index) {
+        return toForestPixel(board, index, toFireParameter(fireBoard.isBeingBurned(index),
+                fireBoard.isBeingExtinguished(index), fireBoard.getFieldPercentageDestroyed(index),
+                fireBoard.getForestFireState(index), fireBoard.getFireSpeed(index)));
+    }
+
+    private static ForestPixel toForestPixel(PrimitiveBoard board, int index, FireParameter fireParameter) {
+        return ForestPixel.builder()
+                .id(board.row(index) + ":" + board.column(index))
+                .terrain(fromByte(TERRAINS, board.getTerrain()[index]))
+                .forestFireIndex(fromByte(FOREST_FIRE_INDEXES, board.getForestFireIndex()[index]))
+                .forestFireIndexValue(board.getForestFireIndexValue()[index])
+                .temperature(board.getTemperature()[index])
+                .humidity(board.getHumidity()[index])
+                .wind(new Wind(board.getWindDirection()[index], board.getWindSpeed()[index]))
+                .agentParameters(new AgentParameters(board.hasAgentParameter(index, VISIBLE),
+                        board.hasAgentParameter(index, TESTABLE),
+                        board.hasAgentParameter(index, CENTER),
+                        board.hasAgentParameter(index, HAS_SENSOR)))
+                .fireParameter(fireParameter)
+                .build();
+    }
+
+    private static FireParameter toFireParameter(boolean beingBurned, boolean beingExtinguished,
+                                                 double fieldPercentageDestroyed, byte forestFireState, double fireSpeed) {
+        return new FireParameter(beingBurned, beingExtinguished, fieldPercentageDestroyed,
+                fromByte(FOREST_FIRE_STATES, forestFireState),
+                ForestFireBurnedColor.convertBurnedFieldPercentageToColorValue((int) fieldPercentageDestroyed),
+                fireSpeed);
+    }
+
+    public static ForestBoardDelta toForestBoardDelta(String id, long baseIteration, long iteration,
+                                                      TiledFireBoard previousFireBoard, TiledFireBoard fireBoard) {
+        IntList changedIndices = new IntList();
+        fireBoard.forEachChangedIndex(previousFireBoard, changedIndices::add);
+        int size = changedIndices.size();
+        int[] indices = changedIndices.toArray();
+        byte[] forestFireStates = new byte[size];
+        double[] fireSpeeds = new double[size];
+        double[] fieldPercentagesDestroyed = new double[size];
+        boolean[] beingBurned = new boolean[size];
+        boolean[] beingExtinguished = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            int index = indices[i];
+            forestFireStates[i] = fireBoard.getForestFireState(index);
+            fireSpeeds[i] = fireBoard.getFireSpeed(index);
+            fieldPercentagesDestroyed[i] = fireBoard.getFieldPercentageDestroyed(index);
+            beingBurned[i] = fireBoard.isBeingBurned(index);
+            beingExtinguished[i] = fireBoard.isBeingExtinguished(index);
+        }
+        return new ForestBoardDelta(id, baseIteration, iteration, indices, forestFireStates, fireSpeeds, fieldPercentagesDestroyed,
+                beingBurned, beingExtinguished);
+    }
+
+    public static void applyForestBoardDelta(FireLayer fireLayer, ForestBoardDelta delta) {
+        for (int i = 0; i < delta.size(); i++) {
+            int index = delta.indices()[i];
+            fireLayer.getBeingBurned()[index] = delta.beingBurned()[i];
+            fireLayer.getBeingExtinguished()[index] = delta.beingExtinguished()[i];
+            fireLayer.getFieldPercentageDestroyed()[index] = delta.fieldPercentagesDestroyed()[i];
+            fireLayer.getFireSpeed()[index] = delta.fireSpeeds()[i];
+            fireLayer.getForestFireState()[index] = delta.forestFireStates()[i];
+        }
+    }
+
+    public static void applyForestBoardDelta(FireParameter fireParameter, ForestBoardDelta delta, int position) {
+        fireParameter.setBeingBurned(delta.beingBurned()[position]);
+        fireParameter.setBeingExtinguished(delta.beingExtinguished()[position]);
+        fireParameter.setFieldPercentageDestroyed(delta.fieldPercentagesDestroyed()[position]);
+        fireParameter.setForestFireState(fromByte(FOREST_FIRE_STATES, delta.forestFireStates()[position]));
+        fireParameter.setForestFireBurnedColor(ForestFireBurnedColor.convertBurnedFieldPercentageToColorValue(
+                (int) delta.fieldPercentagesDestroyed()[position]));
+        fireParameter.setFireSpeed(delta.fireSpeeds()[position]);
+    }
+
+    private static byte toByte(Enum<?> value) {
+        return value == null ? NO_VALUE : (byte) value.ordinal();
+    }
+
+    private static byte toByte(AgentParameters agentParameters) {
+        if (agentParameters == null) return 0;
+        byte flags = 0;
+        if (agentParameters.isVisible()) flags |= VISIBLE;
+        if (agentParameters.isTestable()) flags |= TESTABLE;
+        if (agentParameters.isCenter()) flags |= CENTER;
+        if (agentParameters.isHasSensor()) flags |= HAS_SENSOR;
+        return flags;
+    }
+
+    private static <T> T fromByte(T[] values, byte value) {
+        return value == NO_VALUE ? null : values[value];
+    }
+}
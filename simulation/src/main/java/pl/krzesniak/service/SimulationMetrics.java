@@ -0,0 +1,66 @@
+package pl.krzesniak.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import pl.krzesniak.model.FireStatistics;
+import pl.krzesniak.model.Simulation;
+import pl.krzesniak.model.enums.ForestFireState;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+@Service
+@RequiredArgsConstructor
+public class SimulationMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<UUID, List<Meter>> meters = new ConcurrentHashMap<>();
+
+    public void register(Simulation simulation) {
+        List<Meter> simulationMeters = new ArrayList<>();
+        simulationMeters.add(gauge("simulation.fire.pixels.burning", "Pixels that are burning",
+                simulation, FireStatistics::getBurningPixels));
+        simulationMeters.add(gauge("simulation.fire.pixels.destroyed", "Pixels that burned down",
+                simulation, FireStatistics::getDestroyedPixels));
+        simulationMeters.add(gauge("simulation.fire.perimeter", "Burning pixels that can still spread the fire",
+                simulation, FireStatistics::getActivePerimeter));
+        simulationMeters.add(gauge("simulation.fire.burned.area", "Burned area in pixels",
+                simulation, FireStatistics::getBurnedArea));
+        simulationMeters.add(gauge("simulation.fire.speed.total", "Sum of the fire speed of burning pixels",
+                simulation, FireStatistics::getTotalFireSpeed));
+        for (ForestFireState state : ForestFireState.values()) {
+            simulationMeters.add(Gauge.builder("simulation.fire.pixels", simulation,
+                            measured -> read(measured, statistics -> statistics.getPixels(state)))
+                    .description("Pixels in a fire state")
+                    .tag("simulation", simulation.getId().toString())
+                    .tag("state", state.name())
+                    .register(meterRegistry));
+        }
+        meters.put(simulation.getId(), simulationMeters);
+    }
+
+    public void unregister(Simulation simulation) {
+        List<Meter> simulationMeters = meters.remove(simulation.getId());
+        if (simulationMeters != null) simulationMeters.forEach(meterRegistry::remove);
+    }
+
+    private Meter gauge(String name, String description, Simulation simulation,
+                        ToDoubleFunction<FireStatistics> statistic) {
+        return Gauge.builder(name, simulation, measured -> read(measured, statistic))
+                .description(description)
+                .tag("simulation", simulation.getId().toString())
+                .register(meterRegistry);
+    }
+
+    private static double read(Simulation simulation, ToDoubleFunction<FireStatistics> statistic) {
+        return simulation.getDoubleBufferedBoard().readPublished((board, fireLayer) ->
+                statistic.applyAsDouble(fireLayer.getStatistics()));
+    }
+}
@@ -0,0 +1,114 @@
+package pl.krzesniak.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import pl.krzesniak.exception.SimulationNotFoundException;
+import pl.krzesniak.model.AdvanceResult;
+import pl.krzesniak.model.ForestPixel;
+import pl.krzesniak.model.Simulation;
+import pl.krzesniak.model.enums.IterationMode;
+import pl.krzesniak.service.checkpoint.SimulationCheckpoint;
+import pl.krzesniak.service.checkpoint.SimulationCheckpointer;
+import pl.krzesniak.service.rule.FireModelRegistry;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class SimulationRegistry {
+
+    private final ForestFireSimulator forestFireSimulator;
+    private final ScheduledExecutorService simulationScheduler;
+    private final BoardPublisher boardPublisher;
+    private final SimulationMetrics simulationMetrics;
+    private final SimulationCheckpointer simulationCheckpointer;
+    private final FireModelRegistry fireModelRegistry;
+    private final Map<UUID, Simulation> simulations = new ConcurrentHashMap<>();
+    private volatile UUID latestSimulationId;
+
+    @Value("${simulation.iteration.delay-millis:4000}")
+    private long iterationDelayMillis;
+
+    public Simulation create(ForestPixel[][] board, Long seed, IterationMode iterationMode, String fireModel) {
+        Simulation simulation = forestFireSimulator.createSimulation(board,
+                seed == null ? RandomStreams.randomSeed() : seed, iterationMode, fireModelRegistry.get(fireModel));
+        simulations.put(simulation.getId(), simulation);
+        simulationMetrics.register(simulation);
+        latestSimulationId = simulation.getId();
+        return simulation;
+    }
+
+    public Simulation resume(UUID id) {
+        SimulationCheckpoint checkpoint = simulationCheckpointer.read(id);
+        Simulation simulation = forestFireSimulator.restoreSimulation(checkpoint,
+                fireModelRegistry.get(checkpoint.fireModel().isEmpty() ? null : checkpoint.fireModel()));
+        Simulation replaced = simulations.put(id, simulation);
+        if (replaced != null) {
+            stop(replaced);
+            simulationMetrics.unregister(replaced);
+        }
+        simulationMetrics.register(simulation);
+        latestSimulationId = id;
+        return simulation;
+    }
+
+    public Simulation get(UUID id) {
+        Simulation simulation = simulations.get(id);
+        if (simulation == null) throw new SimulationNotFoundException("Simulation " + id + " does not exist");
+        return simulation;
+    }
+
+    public Simulation getLatest() {
+        UUID id = latestSimulationId;
+        if (id == null) throw new SimulationNotFoundException("No simulation has been created yet");
+        return get(id);
+    }
+
+    public void remove(UUID id) {
+        Simulation simulation = get(id);
+        stop(simulation);
+        simulations.remove(id);
+        simulationMetrics.unregister(simulation);
+        boardPublisher.announceFinished(simulation);
+    }
+
+    public synchronized void start(Simulation simulation) {
+        if (simulation.isRunning() || simulation.isClosed()) return;
+        simulation.setScheduledIteration(simulationScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                forestFireSimulator.runFireForestIteration(simulation);
+                afterIteration(simulation);
+            } catch (RuntimeException e) {
+                log.error("Iteration of simulation {} failed", simulation.getId(), e);
+            }
+        }, 0, iterationDelayMillis, TimeUnit.MILLISECONDS));
+    }
+
+    public AdvanceResult advance(Simulation simulation, int iterations) {
+        AdvanceResult advanceResult = forestFireSimulator.advance(simulation, iterations);
+        afterIteration(simulation);
+        return advanceResult;
+    }
+
+    public synchronized void stop(Simulation simulation) {
+        var scheduledIteration = simulation.getScheduledIteration();
+        if (scheduledIteration != null) scheduledIteration.cancel(false);
+    }
+
+    private void afterIteration(Simulation simulation) {
+        boardPublisher.requestPublication(simulation);
+        simulationCheckpointer.requestCheckpoint(simulation);
+        if (simulation.isFinished() && !simulation.isClosed()) {
+            log.info("Simulation {} has no fire left, stopping it", simulation.getId());
+            stop(simulation);
+            boardPublisher.announceFinished(simulation);
+        }
+    }
+}
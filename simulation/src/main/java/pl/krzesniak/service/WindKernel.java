@@ -0,0 +1,56 @@
+package pl.krzesniak.service;
+
+// the direction is where the wind blows to, in degrees clockwise from north
+public class WindKernel {
+
+    public static final int DIRECTION_BUCKETS = 16;
+    public static final int MAX_SPEED_BUCKET = 30;
+    public static final int BUCKETS = DIRECTION_BUCKETS * (MAX_SPEED_BUCKET + 1);
+    public static final double ANISOTROPY = 0.08;
+
+    private final int reach;
+    private final int side;
+    private final double[][] weights = new double[BUCKETS][];
+
+    public WindKernel(int windowSize) {
+        this.reach = (int) Math.round(windowSize / 2.0) - 1;
+        this.side = 2 * reach + 1;
+    }
+
+    public static short bucket(double direction, double speed) {
+        int directionBucket = Math.floorMod((int) Math.round(direction * DIRECTION_BUCKETS / 360.0), DIRECTION_BUCKETS);
+        int speedBucket = (int) Math.min(Math.max(Math.round(speed), 0), MAX_SPEED_BUCKET);
+        return (short) (speedBucket * DIRECTION_BUCKETS + directionBucket);
+    }
+
+    public int offset(int rowOffset, int columnOffset) {
+        return (rowOffset + reach) * side + columnOffset + reach;
+    }
+
+    public double[] getWeights(int bucket) {
+        return weights[bucket];
+    }
+
+    public void prepare(int bucket) {
+        if (weights[bucket] != null) return;
+        double angle = Math.toRadians((bucket % DIRECTION_BUCKETS) * 360.0 / DIRECTION_BUCKETS);
+        double speed = bucket / DIRECTION_BUCKETS;
+        double[] stencil = new double[side * side];
+        double sum = 0;
+        for (int rowOffset = -reach; rowOffset <= reach; rowOffset++) {
+            for (int columnOffset = -reach; columnOffset <= reach; columnOffset++) {
+                if (rowOffset == 0 && columnOffset == 0) continue;
+                double alignment = (columnOffset * Math.sin(angle) - rowOffset * Math.cos(angle))
+                        / Math.hypot(rowOffset, columnOffset);
+                stencil[offset(rowOffset, columnOffset)] = Math.exp(ANISOTROPY * speed * alignment);
+                sum += stencil[offset(rowOffset, columnOffset)];
+            }
+        }
+        double normalization = (side * side - 1) / sum;
+        for (int i = 0; i < stencil.length; i++) {
+            stencil[i] *= normalization;
+        }
+        stencil[offset(0, 0)] = 1;
+        weights[bucket] = stencil;
+    }
+}
@@ -0,0 +1,13 @@
+package pl.krzesniak.service.checkpoint;
+
+import pl.krzesniak.model.FireLayer;
+import pl.krzesniak.model.PrimitiveBoard;
+import pl.krzesniak.model.enums.IterationMode;
+import pl.krzesniak.model.enums.QuiescencePolicy;
+
+import java.util.UUID;
+
+public record SimulationCheckpoint(UUID simulationId, long tick, long seed, IterationMode iterationMode,
+                                   QuiescencePolicy quiescencePolicy, String fireModel, PrimitiveBoard board,
+                                   FireLayer fireLayer) {
+}
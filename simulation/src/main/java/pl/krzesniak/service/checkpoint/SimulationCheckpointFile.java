@@ -0,0 +1,142 @@
+package pl.krzesniak.service.checkpoint;
+
+import pl.krzesniak.model.FireLayer;
+import pl.krzesniak.model.PrimitiveBoard;
+import pl.krzesniak.model.enums.IterationMode;
+import pl.krzesniak.model.enums.QuiescencePolicy;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+// little endian, a 64 byte header followed by one column per array
+public class SimulationCheckpointFile {
+
+    public static final int MAGIC = 0x46464350;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 64;
+    public static final int BYTES_PER_PIXEL = 6 + 7 * Double.BYTES;
+    public static final int FIRE_MODEL_OFFSET = 50;
+    public static final int MAX_FIRE_MODEL_BYTES = HEADER_SIZE - FIRE_MODEL_OFFSET - 1;
+
+    private static final IterationMode[] ITERATION_MODES = IterationMode.values();
+    private static final QuiescencePolicy[] QUIESCENCE_POLICIES = QuiescencePolicy.values();
+
+    private SimulationCheckpointFile() {
+    }
+
+    public static long size(int pixels) {
+        return HEADER_SIZE + (long) pixels * BYTES_PER_PIXEL;
+    }
+
+    public static void write(Path path, SimulationCheckpoint checkpoint) throws IOException {
+        PrimitiveBoard board = checkpoint.board();
+        FireLayer fireLayer = checkpoint.fireLayer();
+        byte[] fireModel = checkpoint.fireModel().getBytes(StandardCharsets.UTF_8);
+        if (fireModel.length > MAX_FIRE_MODEL_BYTES) {
+            throw new IOException("Fire model name " + checkpoint.fireModel() + " does not fit the checkpoint header");
+        }
+        Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size(board.size()));
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putLong(checkpoint.simulationId().getMostSignificantBits())
+                    .putLong(checkpoint.simulationId().getLeastSignificantBits())
+                    .putLong(checkpoint.tick())
+                    .putLong(checkpoint.seed())
+                    .putInt(board.getWidth())
+                    .putInt(board.getHeight())
+                    .put((byte) checkpoint.iterationMode().ordinal())
+                    .put((byte) checkpoint.quiescencePolicy().ordinal())
+                    .put((byte) fireModel.length)
+                    .put(fireModel);
+            buffer.position(HEADER_SIZE);
+            buffer.put(board.getTerrain());
+            buffer.put(board.getForestFireIndex());
+            buffer.put(board.getAgentParameters());
+            putDoubles(buffer, board.getForestFireIndexValue());
+            putDoubles(buffer, board.getTemperature());
+            putDoubles(buffer, board.getHumidity());
+            putDoubles(buffer, board.getWindDirection());
+            putDoubles(buffer, board.getWindSpeed());
+            putBooleans(buffer, fireLayer.getBeingBurned());
+            putBooleans(buffer, fireLayer.getBeingExtinguished());
+            buffer.put(fireLayer.getForestFireState());
+            putDoubles(buffer, fireLayer.getFieldPercentageDestroyed());
+            putDoubles(buffer, fireLayer.getFireSpeed());
+            buffer.force();
+        }
+        Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static SimulationCheckpoint read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt() != MAGIC) throw new IOException(path + " is not a simulation checkpoint");
+            int version = buffer.getInt();
+            if (version != VERSION) throw new IOException("Unsupported checkpoint version " + version);
+            UUID simulationId = new UUID(buffer.getLong(), buffer.getLong());
+            long tick = buffer.getLong();
+            long seed = buffer.getLong();
+            int width = buffer.getInt();
+            int height = buffer.getInt();
+            IterationMode iterationMode = ITERATION_MODES[buffer.get()];
+            QuiescencePolicy quiescencePolicy = QUIESCENCE_POLICIES[buffer.get()];
+            byte[] fireModel = new byte[buffer.get()];
+            buffer.get(fireModel);
+            if (channel.size() != size(width * height)) throw new IOException(path + " is truncated");
+            PrimitiveBoard board = new PrimitiveBoard(width, height);
+            FireLayer fireLayer = new FireLayer(board.size());
+            buffer.position(HEADER_SIZE);
+            buffer.get(board.getTerrain());
+            buffer.get(board.getForestFireIndex());
+            buffer.get(board.getAgentParameters());
+            getDoubles(buffer, board.getForestFireIndexValue());
+            getDoubles(buffer, board.getTemperature());
+            getDoubles(buffer, board.getHumidity());
+            getDoubles(buffer, board.getWindDirection());
+            getDoubles(buffer, board.getWindSpeed());
+            getBooleans(buffer, fireLayer.getBeingBurned());
+            getBooleans(buffer, fireLayer.getBeingExtinguished());
+            buffer.get(fireLayer.getForestFireState());
+            getDoubles(buffer, fireLayer.getFieldPercentageDestroyed());
+            getDoubles(buffer, fireLayer.getFireSpeed());
+            fireLayer.recount();
+            return new SimulationCheckpoint(simulationId, tick, seed, iterationMode, quiescencePolicy,
+                    new String(fireModel, StandardCharsets.UTF_8), board, fireLayer);
+        }
+    }
+
+    private static void putDoubles(MappedByteBuffer buffer, double[] values) {
+        buffer.asDoubleBuffer().put(values);
+        buffer.position(buffer.position() + values.length * Double.BYTES);
+    }
+
+    private static void getDoubles(MappedByteBuffer buffer, double[] values) {
+        buffer.asDoubleBuffer().get(values);
+        buffer.position(buffer.position() + values.length * Double.BYTES);
+    }
+
+    private static void putBooleans(MappedByteBuffer buffer, boolean[] values) {
+        for (boolean value : values) {
+            buffer.put(value ? (byte) 1 : 0);
+        }
+    }
+
+    private static void getBooleans(MappedByteBuffer buffer, boolean[] values) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = buffer.get() != 0;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package pl.krzesniak.service.checkpoint;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import pl.krzesniak.exception.SimulationNotFoundException;
+import pl.krzesniak.model.CheckpointResult;
+import pl.krzesniak.model.PrimitiveBoard;
+import pl.krzesniak.model.Simulation;
+import pl.krzesniak.model.TiledFireBoard;
+import pl.krzesniak.service.PrimitiveBoardConverter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Service
+@Log4j2
+public class SimulationCheckpointer {
+
+    public static final String CHECKPOINT_EXTENSION = ".ckpt";
+
+    private final ExecutorService checkpointExecutor = Executors.newSingleThreadExecutor();
+    private final Set<UUID> pendingCheckpoints = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Long> checkpointTicks = new ConcurrentHashMap<>();
+
+    @Value("${simulation.checkpoint.directory:checkpoints}")
+    private Path directory = Path.of("checkpoints");
+
+    @Value("${simulation.checkpoint.interval:50}")
+    private int interval = 50;
+
+    public void requestCheckpoint(Simulation simulation) {
+        if (interval <= 0 || simulation.getTick() - checkpointTicks.getOrDefault(simulation.getId(), 0L) < interval) return;
+        if (!pendingCheckpoints.add(simulation.getId())) return;
+        Snapshot snapshot = snapshot(simulation);
+        checkpointTicks.put(simulation.getId(), snapshot.tick());
+        checkpointExecutor.execute(() -> {
+            try {
+                write(snapshot.toCheckpoint());
+            } catch (IOException | RuntimeException e) {
+                log.error("Checkpoint of simulation {} at tick {} failed", simulation.getId(), snapshot.tick(), e);
+            } finally {
+                pendingCheckpoints.remove(simulation.getId());
+            }
+        });
+    }
+
+    public CheckpointResult checkpoint(Simulation simulation) {
+        Snapshot snapshot = snapshot(simulation);
+        checkpointTicks.put(simulation.getId(), snapshot.tick());
+        try {
+            return checkpointExecutor.submit(() -> write(snapshot.toCheckpoint())).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while writing checkpoint of simulation " + simulation.getId(), e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Checkpoint of simulation " + simulation.getId() + " failed", e.getCause());
+        }
+    }
+
+    public SimulationCheckpoint read(UUID simulationId) {
+        Path path = toPath(simulationId);
+        if (!Files.exists(path)) {
+            throw new SimulationNotFoundException("Simulation " + simulationId + " has no checkpoint");
+        }
+        try {
+            SimulationCheckpoint checkpoint = SimulationCheckpointFile.read(path);
+            checkpointTicks.put(simulationId, checkpoint.tick());
+            return checkpoint;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Checkpoint of simulation " + simulationId + " cannot be read", e);
+        }
+    }
+
+    private Snapshot snapshot(Simulation simulation) {
+        simulation.getIterationLock().lock();
+        try {
+            var buffers = simulation.getDoubleBufferedBoard();
+            return new Snapshot(simulation, buffers.getGeneration(), buffers.getBoard().copyWeather(),
+                    simulation.getHistory().getLatest());
+        } finally {
+            simulation.getIterationLock().unlock();
+        }
+    }
+
+    private CheckpointResult write(SimulationCheckpoint checkpoint) throws IOException {
+        Files.createDirectories(directory);
+        SimulationCheckpointFile.write(toPath(checkpoint.simulationId()), checkpoint);
+        return new CheckpointResult(checkpoint.simulationId(), checkpoint.tick(),
+                SimulationCheckpointFile.size(checkpoint.board().size()));
+    }
+
+    private Path toPath(UUID simulationId) {
+        return directory.resolve(simulationId + CHECKPOINT_EXTENSION);
+    }
+
+    private record Snapshot(Simulation simulation, long tick, PrimitiveBoard board, TiledFireBoard fireBoard) {
+
+        SimulationCheckpoint toCheckpoint() {
+            return new SimulationCheckpoint(simulation.getId(), tick, simulation.getRandomStreams().getSeed(),
+                    simulation.getIterationMode(), simulation.getQuiescencePolicy(),
+                    simulation.getFireModel().getName(), board, PrimitiveBoardConverter.toFireLayer(fireBoard));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        checkpointExecutor.shutdown();
+    }
+}
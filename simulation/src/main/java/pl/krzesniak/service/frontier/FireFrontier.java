@@ -0,0 +1,90 @@
+package pl.krzesniak.service.frontier;
+
+import pl.krzesniak.model.FireLayer;
+import pl.krzesniak.model.IntList;
+import pl.krzesniak.model.PrimitiveBoard;
+import pl.krzesniak.service.BoardNeighbourhood;
+
+public class FireFrontier {
+
+    private final PrimitiveBoard board;
+    private final BoardNeighbourhood neighbourhood;
+    private final boolean[] activeHalo;
+    private final IntList activePixels = new IntList();
+    private IntList sources = new IntList();
+    private IntList nextSources = new IntList();
+
+    public FireFrontier(PrimitiveBoard board, FireLayer fireLayer, BoardNeighbourhood neighbourhood) {
+        this.board = board;
+        this.neighbourhood = neighbourhood;
+        this.activeHalo = new boolean[board.size()];
+        for (int index = 0; index < board.size(); index++) {
+            if (fireLayer.isBeingBurned(index) && canStillChange(fireLayer, index)) sources.add(index);
+        }
+    }
+
+    public IntList activate(FireLayer fireLayer) {
+        activePixels.clear();
+        for (int i = 0; i < sources.size(); i++) {
+            int source = sources.get(i);
+            if (fireLayer.isNotDestroyed(source)) activePixels.add(source);
+            int row = board.row(source);
+            int column = board.column(source);
+            int minColumn = neighbourhood.getMinColumn(column);
+            int maxColumn = neighbourhood.getMaxColumn(column);
+            for (int r = neighbourhood.getMinRow(row), maxRow = neighbourhood.getMaxRow(row); r <= maxRow; r++) {
+                for (int index = board.index(r, minColumn), last = board.index(r, maxColumn); index <= last; index++) {
+                    if (!activeHalo[index] && !fireLayer.isBeingBurned(index) && board.isBurnable(index)) {
+                        activeHalo[index] = true;
+                        activePixels.add(index);
+                    }
+                }
+            }
+        }
+        return activePixels;
+    }
+
+    public boolean isActive(int index) {
+        return activeHalo[index];
+    }
+
+    public void addIgnited(int index) {
+        nextSources.add(index);
+    }
+
+    public void advance(FireLayer fireLayer) {
+        for (int i = 0; i < activePixels.size(); i++) {
+            activeHalo[activePixels.get(i)] = false;
+        }
+        for (int i = 0; i < sources.size(); i++) {
+            if (canStillChange(fireLayer, sources.get(i))) nextSources.add(sources.get(i));
+        }
+        IntList advancedSources = nextSources;
+        nextSources = sources;
+        sources = advancedSources;
+        nextSources.clear();
+    }
+
+    public int size() {
+        return sources.size();
+    }
+
+    private boolean canStillChange(FireLayer fireLayer, int index) {
+        return canStillChange(board, neighbourhood, fireLayer, index);
+    }
+
+    public static boolean canStillChange(PrimitiveBoard board, BoardNeighbourhood neighbourhood, FireLayer fireLayer,
+                                         int index) {
+        if (fireLayer.isNotDestroyed(index)) return true;
+        int row = board.row(index);
+        int column = board.column(index);
+        int minColumn = neighbourhood.getMinColumn(column);
+        int maxColumn = neighbourhood.getMaxColumn(column);
+        for (int r = neighbourhood.getMinRow(row), maxRow = neighbourhood.getMaxRow(row); r <= maxRow; r++) {
+            for (int neighbour = board.index(r, minColumn), last = board.index(r, maxColumn); neighbour <= last; neighbour++) {
+                if (!fireLayer.isBeingBurned(neighbour) && board.isBurnable(neighbour)) return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,63 @@
+package pl.krzesniak.service.frontier;
+
+import pl.krzesniak.model.IntList;
+import pl.krzesniak.model.PrimitiveBoard;
+import pl.krzesniak.service.rule.IgnitionRule;
+
+import java.util.function.IntConsumer;
+import java.util.random.RandomGenerator;
+
+public class SelfIgnitionSampler {
+
+    public static final int CHANCE_BUCKETS = 32;
+
+    private final int[][] bucketIndices = new int[CHANCE_BUCKETS][];
+    private final double[][] bucketChances = new double[CHANCE_BUCKETS][];
+    private final double[] bucketUpperChance = new double[CHANCE_BUCKETS];
+    private final double[] bucketLogMissChance = new double[CHANCE_BUCKETS];
+
+    public SelfIgnitionSampler(PrimitiveBoard board, IgnitionRule ignitionRule) {
+        IntList[] indices = new IntList[CHANCE_BUCKETS];
+        for (int bucket = 0; bucket < CHANCE_BUCKETS; bucket++) {
+            indices[bucket] = new IntList();
+            bucketUpperChance[bucket] = Math.min(1.0, Math.scalb(1.0, 1 - bucket));
+            bucketLogMissChance[bucket] = Math.log1p(-bucketUpperChance[bucket]);
+        }
+        double[] chances = new double[board.size()];
+        for (int index = 0; index < board.size(); index++) {
+            chances[index] = ignitionRule.calculateSelfIgnitionChance(board, index);
+            if (chances[index] > 0) indices[toBucket(chances[index])].add(index);
+        }
+        for (int bucket = 0; bucket < CHANCE_BUCKETS; bucket++) {
+            bucketIndices[bucket] = indices[bucket].toArray();
+            bucketChances[bucket] = new double[bucketIndices[bucket].length];
+            for (int position = 0; position < bucketIndices[bucket].length; position++) {
+                bucketChances[bucket][position] = chances[bucketIndices[bucket][position]];
+            }
+        }
+    }
+
+    // gaps are drawn geometrically per chance bucket and thinned to each pixel's own chance
+    public void sample(RandomGenerator random, IntConsumer ignitedPixelConsumer) {
+        for (int bucket = 0; bucket < CHANCE_BUCKETS; bucket++) {
+            int[] indices = bucketIndices[bucket];
+            double[] chances = bucketChances[bucket];
+            double upperChance = bucketUpperChance[bucket];
+            long position = skip(random, bucket);
+            while (position < indices.length) {
+                int current = (int) position;
+                if (random.nextDouble() * upperChance < chances[current]) ignitedPixelConsumer.accept(indices[current]);
+                position += 1 + skip(random, bucket);
+            }
+        }
+    }
+
+    private long skip(RandomGenerator random, int bucket) {
+        if (bucketUpperChance[bucket] >= 1.0) return 0;
+        return (long) (Math.log(1.0 - random.nextDouble()) / bucketLogMissChance[bucket]);
+    }
+
+    private static int toBucket(double chance) {
+        return Math.min(-Math.getExponent(chance), CHANCE_BUCKETS - 1);
+    }
+}
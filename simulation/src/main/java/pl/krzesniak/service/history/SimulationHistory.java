@@ -0,0 +1,75 @@
+package pl.krzesniak.service.history;
+
+import pl.krzesniak.exception.IterationNotRetainedException;
+import pl.krzesniak.model.FireLayer;
+import pl.krzesniak.model.ForestPixel;
+import pl.krzesniak.model.IntList;
+import pl.krzesniak.model.PrimitiveBoard;
+import pl.krzesniak.model.TiledFireBoard;
+import pl.krzesniak.service.PrimitiveBoardConverter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+public class SimulationHistory {
+
+    private final int size;
+    private final Deque<Snapshot> snapshots = new ArrayDeque<>();
+
+    public SimulationHistory(int size, long iteration, TiledFireBoard fireBoard) {
+        this.size = size;
+        snapshots.addLast(new Snapshot(iteration, fireBoard));
+    }
+
+    public synchronized void record(long iteration, FireLayer fireLayer, IntList writes) {
+        TiledFireBoard latest = snapshots.getLast().fireBoard();
+        snapshots.addLast(new Snapshot(iteration, writes == null
+                ? PrimitiveBoardConverter.toTiledFireBoard(latest.getWidth(), latest.getHeight(), fireLayer)
+                : PrimitiveBoardConverter.updateTiledFireBoard(latest, fireLayer, writes)));
+        while (snapshots.size() > size) {
+            snapshots.removeFirst();
+        }
+    }
+
+    public synchronized long getFirstIteration() {
+        return snapshots.getFirst().iteration();
+    }
+
+    public synchronized long getLastIteration() {
+        return snapshots.getLast().iteration();
+    }
+
+    public synchronized TiledFireBoard getLatest() {
+        return snapshots.getLast().fireBoard();
+    }
+
+    public synchronized Snapshot getLatestSnapshot() {
+        return snapshots.getLast();
+    }
+
+    public ForestPixel[][] getBoard(PrimitiveBoard board, long iteration) {
+        return PrimitiveBoardConverter.toForestPixels(board, getFireLayer(iteration));
+    }
+
+    public FireLayer getFireLayer(long iteration) {
+        return PrimitiveBoardConverter.toFireLayer(getFireBoard(iteration));
+    }
+
+    public ForestPixel getPixel(PrimitiveBoard board, long iteration, int index) {
+        return PrimitiveBoardConverter.toForestPixel(board, getFireBoard(iteration), index);
+    }
+
+    public synchronized TiledFireBoard getFireBoard(long iteration) {
+        for (Iterator<Snapshot> iterator = snapshots.descendingIterator(); iterator.hasNext(); ) {
+            Snapshot snapshot = iterator.next();
+            if (snapshot.iteration() == iteration) return snapshot.fireBoard();
+            if (snapshot.iteration() < iteration) break;
+        }
+        throw new IterationNotRetainedException("Iteration " + iteration + " is not retained, history covers "
+                + getFirstIteration() + " to " + getLastIteration());
+    }
+
+    public record Snapshot(long iteration, TiledFireBoard fireBoard) {
+    }
+}
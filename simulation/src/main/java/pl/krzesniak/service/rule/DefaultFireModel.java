@@ -0,0 +1,28 @@
+package pl.krzesniak.service.rule;
+
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+import pl.krzesniak.service.FireCalculator;
+import pl.krzesniak.service.PixelStartingBurningManager;
+
+@Component
+@Getter
+public class DefaultFireModel implements FireModel {
+
+    public static final String NAME = "default";
+
+    private final DefaultIgnitionRule ignitionRule;
+    private final DefaultSpreadRule spreadRule;
+    private final DefaultTransitionRule transitionRule;
+
+    public DefaultFireModel(FireCalculator fireCalculator, PixelStartingBurningManager startingBurningManager) {
+        this.ignitionRule = new DefaultIgnitionRule(startingBurningManager);
+        this.spreadRule = new DefaultSpreadRule(fireCalculator);
+        this.transitionRule = new DefaultTransitionRule(fireCalculator, startingBurningManager);
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+}
@@ -0,0 +1,24 @@
+package pl.krzesniak.service.rule;
+
+import lombok.RequiredArgsConstructor;
+import pl.krzesniak.model.FireLayer;
+import pl.krzesniak.model.PrimitiveBoard;
+import pl.krzesniak.service.PixelStartingBurningManager;
+
+@RequiredArgsConstructor
+public final class DefaultIgnitionRule implements IgnitionRule {
+
+    private final PixelStartingBurningManager startingBurningManager;
+
+    @Override
+    public boolean isIgniting(PrimitiveBoard board, FireLayer fireLayer, int index,
+                              int minRow, int maxRow, int minColumn, int maxColumn, double random) {
+        return startingBurningManager.isPixelStartingBurning(board, fireLayer, index, minRow, maxRow, minColumn,
+                maxColumn, random);
+    }
+
+    @Override
+    public double calculateSelfIgnitionChance(PrimitiveBoard board, int index) {
+        return startingBurningManager.calculateSelfIgnitionChance(board, index);
+    }
+}
@@ -0,0 +1,18 @@
+package pl.krzesniak.service.rule;
+
+import lombok.RequiredArgsConstructor;
+import pl.krzesniak.model.FireLayer;
+import pl.krzesniak.model.PrimitiveBoard;
+import pl.krzesniak.service.FireCalculator;
+
+@RequiredArgsConstructor
+public final class DefaultSpreadRule implements SpreadRule {
+
+    private final FireCalculator fireCalculator;
+
+    @Override
+    public double calculateDamage(PrimitiveBoard board, FireLayer fireLayer, int index,
+                                  int minRow, int maxRow, int minColumn, int maxColumn) {
+        return fireCalculator.calculateFirePixelDamage(board, fireLayer, index, minRow, maxRow, minColumn, maxColumn);
+    }
+}
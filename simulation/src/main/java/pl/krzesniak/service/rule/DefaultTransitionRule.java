@@ -0,0 +1,24 @@
+package pl.krzesniak.service.rule;
+
+import lombok.RequiredArgsConstructor;
+import pl.krzesniak.model.FireLayer;
+import pl.krzesniak.model.PrimitiveBoard;
+import pl.krzesniak.service.FireCalculator;
+import pl.krzesniak.service.PixelStartingBurningManager;
+
+@RequiredArgsConstructor
+public final class DefaultTransitionRule implements TransitionRule {
+
+    private final FireCalculator fireCalculator;
+    private final PixelStartingBurningManager startingBurningManager;
+
+    @Override
+    public void ignite(PrimitiveBoard board, FireLayer fireLayer, int index) {
+        startingBurningManager.setPixelValueToBeBurned(board, fireLayer, index);
+    }
+
+    @Override
+    public void burn(FireLayer fireLayer, int index, double damage) {
+        fireCalculator.updatePixelBurning(fireLayer, index, damage);
+    }
+}
@@ -0,0 +1,12 @@
+package pl.krzesniak.service.rule;
+
+public interface FireModel {
+
+    String getName();
+
+    IgnitionRule getIgnitionRule();
+
+    SpreadRule getSpreadRule();
+
+    TransitionRule getTransitionRule();
+}
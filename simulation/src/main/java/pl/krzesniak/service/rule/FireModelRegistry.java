@@ -0,0 +1,28 @@
+package pl.krzesniak.service.rule;
+
+import org.springframework.stereotype.Service;
+import pl.krzesniak.exception.InvalidSimulationRequestException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class FireModelRegistry {
+
+    private final Map<String, FireModel> fireModels;
+
+    public FireModelRegistry(List<FireModel> fireModels) {
+        this.fireModels = fireModels.stream().collect(Collectors.toMap(FireModel::getName, Function.identity()));
+    }
+
+    public FireModel get(String name) {
+        FireModel fireModel = fireModels.get(name == null ? DefaultFireModel.NAME : name);
+        if (fireModel == null) {
+            throw new InvalidSimulationRequestException("Unknown fire model " + name + ", available: "
+                    + fireModels.keySet());
+        }
+        return fireModel;
+    }
+}
@@ -0,0 +1,13 @@
+package pl.krzesniak.service.rule;
+
+import pl.krzesniak.model.FireLayer;
+import pl.krzesniak.model.PrimitiveBoard;
+
+// the window bounds are inclusive and contain the pixel
+public interface IgnitionRule {
+
+    boolean isIgniting(PrimitiveBoard board, FireLayer fireLayer, int index,
+                       int minRow, int maxRow, int minColumn, int maxColumn, double random);
+
+    double calculateSelfIgnitionChance(PrimitiveBoard board, int index);
+}
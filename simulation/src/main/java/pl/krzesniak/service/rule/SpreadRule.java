@@ -0,0 +1,10 @@
+package pl.krzesniak.service.rule;
+
+import pl.krzesniak.model.FireLayer;
+import pl.krzesniak.model.PrimitiveBoard;
+
+public interface SpreadRule {
+
+    double calculateDamage(PrimitiveBoard board, FireLayer fireLayer, int index,
+                           int minRow, int maxRow, int minColumn, int maxColumn);
+}
@@ -0,0 +1,11 @@
+package pl.krzesniak.service.rule;
+
+import pl.krzesniak.model.FireLayer;
+import pl.krzesniak.model.PrimitiveBoard;
+
+public interface TransitionRule {
+
+    void ignite(PrimitiveBoard board, FireLayer fireLayer, int index);
+
+    void burn(FireLayer fireLayer, int index, double damage);
+}
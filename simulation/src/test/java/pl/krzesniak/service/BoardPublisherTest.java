@@ -0,0 +1,85 @@
+package pl.krzesniak.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.krzesniak.model.*;
+import pl.krzesniak.model.enums.*;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardPublisherTest {
+
+    public static final int BOARD_SIZE = 32;
+    public static final long SEED = 11;
+
+    ForkJoinPool simulationComputePool = new ForkJoinPool(2);
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    BoardPublisher boardPublisher = new BoardPublisher(null, meterRegistry, 2);
+    ForestFireSimulator simulator = SimulationFixtures.createSimulator(BOARD_SIZE, simulationComputePool);
+    Simulation simulation;
+
+    @BeforeEach
+    void setup() {
+        simulation = simulator.createSimulation(SimulationFixtures.createBoard(BOARD_SIZE), SEED, IterationMode.FULL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        boardPublisher.shutdown();
+        simulationComputePool.shutdown();
+    }
+
+    @Test
+    void createMessage_WhenSeveralGenerationsPassedSinceLastPublication() {
+        var keyframe = (UniqueForestBoard) boardPublisher.createMessage(simulation, false);
+        for (int i = 0; i < 3; i++) {
+            simulator.runFireForestIteration(simulation);
+        }
+
+        var delta = (ForestBoardDelta) boardPublisher.createMessage(simulation, false);
+
+        assertEquals(0, keyframe.iteration());
+        assertEquals(0, delta.baseIteration());
+        assertEquals(3, delta.iteration());
+        assertEquals(2, simulation.getPublicationState().getConflatedGenerations());
+        assertEquals(2, meterRegistry.counter("simulation.publication.conflated.generations").count());
+        ForestPixel[][] expected = simulator.getBoard(simulation);
+        for (int i = 0; i < delta.size(); i++) {
+            int index = delta.indices()[i];
+            FireParameter fireParameter = keyframe.board()[index / BOARD_SIZE][index % BOARD_SIZE].getFireParameter();
+            fireParameter.setBeingBurned(delta.beingBurned()[i]);
+            fireParameter.setFieldPercentageDestroyed(delta.fieldPercentagesDestroyed()[i]);
+            fireParameter.setForestFireState(ForestFireState.values()[delta.forestFireStates()[i]]);
+            fireParameter.setForestFireBurnedColor(ForestFireBurnedColor.convertBurnedFieldPercentageToColorValue(
+                    (int) delta.fieldPercentagesDestroyed()[i]));
+            fireParameter.setFireSpeed(delta.fireSpeeds()[i]);
+        }
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            for (int j = 0; j < BOARD_SIZE; j++) {
+                assertEquals(expected[i][j].getFireParameter(), keyframe.board()[i][j].getFireParameter());
+            }
+        }
+    }
+
+    @Test
+    void createMessage_WhenNothingChangedSinceLastPublication() {
+        boardPublisher.createMessage(simulation, false);
+
+        assertNull(boardPublisher.createMessage(simulation, false));
+        assertInstanceOf(UniqueForestBoard.class, boardPublisher.createMessage(simulation, true));
+    }
+
+    @Test
+    void requestPublication_WhenSimulationIsClosed() {
+        assertTrue(simulation.close());
+
+        boardPublisher.requestPublication(simulation);
+
+        assertFalse(simulation.getPublicationState().getPublicationScheduled().get());
+        assertFalse(simulation.close());
+    }
+}
@@ -0,0 +1,55 @@
+package pl.krzesniak.service;
+
+import org.junit.jupiter.api.Test;
+import pl.krzesniak.model.*;
+import pl.krzesniak.model.enums.*;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnsembleRunnerTest {
+
+    public static final int BOARD_SIZE = 32;
+    public static final int REPLICAS = 12;
+    public static final int ITERATIONS = 10;
+    public static final long SEED = 7;
+
+    ForestPixel[][] board = SimulationFixtures.createBoard(BOARD_SIZE);
+
+    @Test
+    void run_WhenTheSameSeedIsUsedWithDifferentParallelism() {
+        EnsembleResult singleThreaded = runEnsemble(new ForkJoinPool(1));
+        EnsembleResult multiThreaded = runEnsemble(new ForkJoinPool(4));
+
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            assertArrayEquals(singleThreaded.burnProbability()[i], multiThreaded.burnProbability()[i]);
+            assertArrayEquals(singleThreaded.meanArrivalIteration()[i], multiThreaded.meanArrivalIteration()[i]);
+            assertArrayEquals(singleThreaded.arrivalIterationVariance()[i], multiThreaded.arrivalIterationVariance()[i]);
+        }
+    }
+
+    @Test
+    void run_WhenPixelIsBurningBeforeTheFirstIteration() {
+        EnsembleResult result = runEnsemble(new ForkJoinPool(2));
+
+        assertEquals(1.0, result.burnProbability()[BOARD_SIZE / 2][BOARD_SIZE / 2]);
+        assertEquals(0.0, result.meanArrivalIteration()[BOARD_SIZE / 2][BOARD_SIZE / 2]);
+        assertEquals(0.0, result.arrivalIterationVariance()[BOARD_SIZE / 2][BOARD_SIZE / 2]);
+        for (double[] row : result.burnProbability()) {
+            for (double probability : row) {
+                assertTrue(probability >= 0 && probability <= 1);
+            }
+        }
+    }
+
+    private EnsembleResult runEnsemble(ForkJoinPool pool) {
+        try {
+            ForestFireSimulator simulator = SimulationFixtures.createSimulator(BOARD_SIZE, pool);
+            Simulation simulation = simulator.createSimulation(board, SEED, IterationMode.FULL);
+            return new EnsembleRunner(simulator, pool).run(simulation, REPLICAS, ITERATIONS, SEED);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package pl.krzesniak.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.krzesniak.model.FireLayer;
+import pl.krzesniak.model.PrimitiveBoard;
+import pl.krzesniak.model.enums.ForestFireState;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FireCalculatorTest {
+
+    public static final int BOARD_SIZE = 10;
+
+    FireCalculator fireCalculator = new FireCalculator();
+    PrimitiveBoard board = new PrimitiveBoard(BOARD_SIZE, BOARD_SIZE);
+
+    @BeforeEach
+    void setup() {
+        for (int index = 0; index < board.size(); index++) {
+            board.setWeather(index, 15 + index % 20, 20 + index % 50, 90, index % 30);
+            board.getForestFireIndexValue()[index] = index % 70;
+        }
+    }
+
+    @Test
+    void calculateOwnFireSpreed_WhenCoefficientsAreCached() {
+        fireCalculator.refreshOwnFireSpread(board);
+
+        for (int index = 0; index < board.size(); index++) {
+            assertTrue(board.hasOwnFireSpread(index));
+            assertEquals(fireCalculator.calculateOwnFireSpreed(board.getTemperature()[index], board.getHumidity()[index],
+                    board.getWindSpeed()[index], board.getForestFireIndexValue()[index]),
+                    fireCalculator.calculateOwnFireSpreed(board, index));
+        }
+    }
+
+    @Test
+    void calculateOwnFireSpreed_WhenWeatherChangesAfterCaching() {
+        fireCalculator.refreshOwnFireSpread(board);
+        double cachedFireSpread = fireCalculator.calculateOwnFireSpreed(board, 5);
+
+        board.setWeather(5, 40, 5, 180, 25);
+
+        assertFalse(board.hasOwnFireSpread(5));
+        double updatedFireSpread = fireCalculator.calculateOwnFireSpreed(board, 5);
+        assertNotEquals(cachedFireSpread, updatedFireSpread);
+        fireCalculator.refreshOwnFireSpread(board, 5);
+        assertEquals(updatedFireSpread, board.getOwnFireSpread()[5]);
+    }
+
+    @Test
+    void calculateFireSpreedForNeighbours_WhenWindIsCalm() {
+        FireLayer fireLayer = burningColumn();
+        board.setWindKernel(new WindKernel(5));
+        for (int index = 0; index < board.size(); index++) {
+            board.setWeather(index, 25, 30, index * 37 % 360, 0);
+        }
+        fireCalculator.refreshOwnFireSpread(board);
+
+        for (int index = 0; index < board.size(); index++) {
+            int row = board.row(index);
+            int column = board.column(index);
+            int minRow = Math.max(row - 2, 0), maxRow = Math.min(row + 2, BOARD_SIZE - 1);
+            int minColumn = Math.max(column - 2, 0), maxColumn = Math.min(column + 2, BOARD_SIZE - 1);
+            assertEquals(fireCalculator.calculateFireSpreedForNeighbours(board, fireLayer, minRow, maxRow, minColumn, maxColumn),
+                    fireCalculator.calculateFireSpreedForNeighbours(board, fireLayer, board.getWindKernel(), index,
+                            minRow, maxRow, minColumn, maxColumn), 1e-9);
+        }
+    }
+
+    @Test
+    void calculateFireSpreedForNeighbours_WhenWindBlowsEast() {
+        FireLayer fireLayer = burningColumn();
+        board.setWindKernel(new WindKernel(5));
+        for (int index = 0; index < board.size(); index++) {
+            board.setWeather(index, 25, 30, 90, 20);
+        }
+        fireCalculator.refreshOwnFireSpread(board);
+        int downwind = board.index(5, 6);
+        int upwind = board.index(5, 4);
+
+        double downwindSpread = fireCalculator.calculateFireSpreedForNeighbours(board, fireLayer, board.getWindKernel(),
+                downwind, 3, 7, 4, 8);
+        double upwindSpread = fireCalculator.calculateFireSpreedForNeighbours(board, fireLayer, board.getWindKernel(),
+                upwind, 3, 7, 2, 6);
+
+        assertEquals(fireCalculator.calculateFireSpreedForNeighbours(board, fireLayer, 3, 7, 4, 8),
+                fireCalculator.calculateFireSpreedForNeighbours(board, fireLayer, 3, 7, 2, 6));
+        assertTrue(downwindSpread > 2 * upwindSpread);
+    }
+
+    private FireLayer burningColumn() {
+        FireLayer fireLayer = new FireLayer(board.size());
+        for (int row = 0; row < BOARD_SIZE; row++) {
+            fireLayer.setForestFireState(board.index(row, 5), ForestFireState.HIGH);
+        }
+        return fireLayer;
+    }
+}
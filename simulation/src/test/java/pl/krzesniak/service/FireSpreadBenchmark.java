@@ -0,0 +1,66 @@
+package pl.krzesniak.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import pl.krzesniak.model.FireLayer;
+import pl.krzesniak.model.PrimitiveBoard;
+import pl.krzesniak.model.enums.ForestFireState;
+import pl.krzesniak.model.enums.SpreadMode;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FireSpreadBenchmark {
+
+    @Param({"256", "1024"})
+    private int boardSize;
+
+    @Param({"ISOTROPIC", "WIND"})
+    private SpreadMode spreadMode;
+
+    @Param({"5"})
+    private int windowSize;
+
+    private final FireCalculator fireCalculator = new FireCalculator();
+    private PrimitiveBoard board;
+    private FireLayer fireLayer;
+    private BoardNeighbourhood neighbourhood;
+
+    @Setup
+    public void setup() {
+        board = new PrimitiveBoard(boardSize, boardSize);
+        fireLayer = new FireLayer(board.size());
+        neighbourhood = new BoardNeighbourhood(boardSize, boardSize, windowSize);
+        if (spreadMode == SpreadMode.WIND) board.setWindKernel(new WindKernel(windowSize));
+        for (int index = 0; index < board.size(); index++) {
+            board.setWeather(index, 15 + index % 20, 30 + index % 40, board.row(index) * 7 % 360, index % 25);
+            board.getForestFireIndexValue()[index] = index % 70;
+            if (index % 3 == 0) fireLayer.setForestFireState(index, ForestFireState.MEDIUM);
+        }
+        fireCalculator.refreshOwnFireSpread(board);
+    }
+
+    @Benchmark
+    public double calculateFirePixelDamage() {
+        double damage = 0;
+        for (int row = 0; row < boardSize; row++) {
+            for (int column = 0; column < boardSize; column++) {
+                damage += fireCalculator.calculateFirePixelDamage(board, fireLayer, board.index(row, column),
+                        neighbourhood.getMinRow(row), neighbourhood.getMaxRow(row),
+                        neighbourhood.getMinColumn(column), neighbourhood.getMaxColumn(column));
+            }
+        }
+        return damage;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(FireSpreadBenchmark.class.getSimpleName()).build()).run();
+    }
+}
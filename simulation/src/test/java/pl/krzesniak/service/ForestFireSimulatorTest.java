@@ -0,0 +1,192 @@
+package pl.krzesniak.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import pl.krzesniak.exception.IterationNotRetainedException;
+import pl.krzesniak.exception.PixelNotFoundException;
+import pl.krzesniak.model.*;
+import pl.krzesniak.model.enums.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ForestFireSimulatorTest {
+
+    public static final int BOARD_SIZE = 64;
+    public static final int ITERATIONS = 15;
+    public static final long SEED = 2023;
+
+    ForkJoinPool simulationComputePool = new ForkJoinPool(3);
+    ForestPixel[][] board = SimulationFixtures.createBoard(BOARD_SIZE);
+
+    @AfterEach
+    void tearDown() {
+        simulationComputePool.shutdown();
+    }
+
+    @Test
+    void runFireForestIteration_WhenFullAndParallelModesUseTheSameSeed() {
+        ForestPixel[][] fullResult = simulate(IterationMode.FULL, SEED);
+        ForestPixel[][] parallelResult = simulate(IterationMode.PARALLEL, SEED);
+
+        assertBoardsEqual(fullResult, parallelResult);
+    }
+
+    @Test
+    void runFireForestIteration_WhenFrontierModeIsRepeatedWithTheSameSeed() {
+        ForestPixel[][] firstResult = simulate(IterationMode.FRONTIER, SEED);
+        ForestPixel[][] secondResult = simulate(IterationMode.FRONTIER, SEED);
+
+        assertBoardsEqual(firstResult, secondResult);
+    }
+
+    @Test
+    void advance_WhenBatchIsComparedWithSingleIterations() {
+        ForestFireSimulator simulator = createSimulator();
+        Simulation simulation = simulator.createSimulation(board, SEED, IterationMode.PARALLEL);
+
+        AdvanceResult advanceResult = simulator.advance(simulation, ITERATIONS);
+
+        assertEquals(ITERATIONS, advanceResult.iterations());
+        assertEquals(ITERATIONS, advanceResult.tick());
+        assertTrue(advanceResult.ticksPerSecond() > 0);
+        assertBoardsEqual(simulate(IterationMode.PARALLEL, SEED), simulator.getBoard(simulation));
+    }
+
+    @Test
+    void getStatistics_WhenIncrementalStatisticsAreComparedWithRecount() {
+        for (IterationMode iterationMode : IterationMode.values()) {
+            assertStatisticsMatchRecount(iterationMode);
+        }
+    }
+
+    private void assertStatisticsMatchRecount(IterationMode iterationMode) {
+        ForestFireSimulator simulator = createSimulator();
+        Simulation simulation = simulator.createSimulation(board, SEED, iterationMode);
+        simulator.advance(simulation, ITERATIONS);
+
+        SimulationStatistics statistics = simulator.getStatistics(simulation);
+
+        FireLayer recounted = simulation.getDoubleBufferedBoard().getFront().createCopy();
+        recounted.recount();
+        FireStatistics expected = recounted.getStatistics();
+        assertEquals(ITERATIONS, statistics.tick());
+        assertTrue(statistics.burningPixels() > 0);
+        assertEquals(expected.getBurningPixels(), statistics.burningPixels());
+        assertEquals(expected.getDestroyedPixels(), statistics.destroyedPixels());
+        assertEquals(expected.getActivePerimeter(), statistics.activePerimeter());
+        assertEquals(expected.getBurnedArea(), statistics.burnedArea());
+        assertEquals(expected.getTotalFireSpeed(), statistics.totalFireSpeed());
+        assertEquals(expected.getPixelsByState(), statistics.pixelsByState());
+    }
+
+    @Test
+    void advance_WhenFireBurnsOutWithStopPolicy() {
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            for (int j = 0; j < BOARD_SIZE; j++) {
+                board[i][j].setTerrain(Terrain.WATER);
+            }
+        }
+        board[BOARD_SIZE / 2][BOARD_SIZE / 2].setTerrain(Terrain.FOREST_CONIFEROUS);
+        ForestFireSimulator simulator = createSimulator();
+        simulator.setQuiescencePolicy(QuiescencePolicy.STOP);
+        Simulation simulation = simulator.createSimulation(board, SEED, IterationMode.FULL);
+
+        AdvanceResult advanceResult = simulator.advance(simulation, 1000);
+
+        assertTrue(advanceResult.iterations() < 1000);
+        assertTrue(simulation.isFinished());
+        assertEquals(0, simulation.getDoubleBufferedBoard().getFront().getBurningPixels());
+        assertEquals(0, simulator.advance(simulation, 1).iterations());
+    }
+
+    @Test
+    void getBoard_WhenPastIterationsAreReadFromHistory() {
+        for (IterationMode iterationMode : IterationMode.values()) {
+            assertHistoryMatchesPublishedBoards(iterationMode);
+        }
+    }
+
+    private void assertHistoryMatchesPublishedBoards(IterationMode iterationMode) {
+        ForestFireSimulator simulator = createSimulator();
+        simulator.setHistorySize(8);
+        Simulation simulation = simulator.createSimulation(board, SEED, iterationMode);
+        List<ForestPixel[][]> boards = new ArrayList<>();
+        boards.add(simulator.getBoard(simulation));
+        for (int i = 0; i < ITERATIONS; i++) {
+            simulator.runFireForestIteration(simulation);
+            boards.add(simulator.getBoard(simulation));
+        }
+
+        HistoryRange historyRange = simulator.getHistoryRange(simulation);
+
+        assertEquals(ITERATIONS, historyRange.lastIteration());
+        assertEquals(ITERATIONS - 7, historyRange.firstIteration());
+        for (long iteration = historyRange.firstIteration(); iteration <= ITERATIONS; iteration++) {
+            ForestPixel[][] expected = boards.get((int) iteration);
+            assertBoardsEqual(expected, simulator.getBoard(simulation, iteration));
+            String pixelId = BOARD_SIZE / 2 + ":" + (BOARD_SIZE / 2 + 1);
+            assertEquals(expected[BOARD_SIZE / 2][BOARD_SIZE / 2 + 1],
+                    simulator.getPixelById(simulation, iteration, pixelId));
+        }
+        assertThrows(IterationNotRetainedException.class, () -> simulator.getBoard(simulation, 0));
+    }
+
+    @Test
+    void getPixelById_WhenIdIsNotOnTheBoard() {
+        ForestFireSimulator simulator = createSimulator();
+        Simulation simulation = simulator.createSimulation(board, SEED, IterationMode.FULL);
+
+        assertEquals("3:" + (BOARD_SIZE - 1), simulator.getPixelById(simulation, "3:" + (BOARD_SIZE - 1)).getId());
+        assertThrows(PixelNotFoundException.class, () -> simulator.getPixelById(simulation, "3:" + BOARD_SIZE));
+        assertThrows(PixelNotFoundException.class, () -> simulator.getPixelById(simulation, BOARD_SIZE + ":0"));
+        assertThrows(PixelNotFoundException.class, () -> simulator.getPixelById(simulation, "-1:3"));
+        assertThrows(PixelNotFoundException.class, () -> simulator.getPixelById(simulation, "3"));
+        assertThrows(PixelNotFoundException.class, () -> simulator.getPixelById(simulation, 0, "a:b"));
+    }
+
+    @Test
+    void updateWeather_WhenIdIsNotOnTheBoard() {
+        ForestFireSimulator simulator = createSimulator();
+        Simulation simulation = simulator.createSimulation(board, SEED, IterationMode.FULL);
+        ForestPixel[][] before = simulator.getBoard(simulation);
+
+        simulator.updateWeather(simulation, "4:2", 35, 10, new Wind(180, 20));
+
+        assertThrows(PixelNotFoundException.class, () -> simulator.updateWeather(simulation, "3:" + BOARD_SIZE, 35, 10,
+                new Wind(180, 20)));
+        ForestPixel[][] after = simulator.getBoard(simulation);
+        assertEquals(35, after[4][2].getTemperature());
+        assertEquals(180, after[4][2].getWind().direction());
+        assertEquals(before[4][0].getTemperature(), after[4][0].getTemperature());
+        assertEquals(before[3][BOARD_SIZE - 1].getTemperature(), after[3][BOARD_SIZE - 1].getTemperature());
+    }
+
+    private ForestFireSimulator createSimulator() {
+        return SimulationFixtures.createSimulator(BOARD_SIZE, simulationComputePool);
+    }
+
+    private ForestPixel[][] simulate(IterationMode iterationMode, long seed) {
+        ForestFireSimulator simulator = createSimulator();
+        Simulation simulation = simulator.createSimulation(board, seed, iterationMode);
+        for (int i = 0; i < ITERATIONS; i++) {
+            simulator.runFireForestIteration(simulation);
+        }
+        assertEquals(ITERATIONS, simulation.getTick());
+        return simulator.getBoard(simulation);
+    }
+
+    private void assertBoardsEqual(ForestPixel[][] expected, ForestPixel[][] actual) {
+        int burningPixels = 0;
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            for (int j = 0; j < BOARD_SIZE; j++) {
+                assertEquals(expected[i][j].getFireParameter(), actual[i][j].getFireParameter());
+                if (actual[i][j].isBeingBurned()) burningPixels++;
+            }
+        }
+        assertTrue(burningPixels > 1);
+    }
+}
@@ -0,0 +1,140 @@
+package pl.krzesniak.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.krzesniak.model.*;
+import pl.krzesniak.model.enums.ForestFireBurnedColor;
+import pl.krzesniak.model.enums.ForestFireIndex;
+import pl.krzesniak.model.enums.ForestFireState;
+import pl.krzesniak.model.enums.Terrain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveBoardConverterTest {
+
+    public static final int BOARD_HEIGHT = 6;
+    public static final int BOARD_WIDTH = 8;
+
+    FireCalculator fireCalculator = new FireCalculator();
+    PixelStartingBurningManager startingBurningManager = new PixelStartingBurningManager(fireCalculator);
+    ForestPixel[][] board = new ForestPixel[BOARD_HEIGHT][BOARD_WIDTH];
+
+    @BeforeEach
+    void setup() {
+        for (int i = 0; i < BOARD_HEIGHT; i++) {
+            for (int j = 0; j < BOARD_WIDTH; j++) {
+                board[i][j] = ForestPixel.builder()
+                        .id(i + ":" + j)
+                        .terrain(j == 0 ? Terrain.WATER : Terrain.FOREST_CONIFEROUS)
+                        .forestFireIndex(ForestFireIndex.MODERATE)
+                        .forestFireIndexValue(10 + i + j)
+                        .temperature(20 + i)
+                        .humidity(40 + j)
+                        .wind(new Wind(90, 3 + i))
+                        .agentParameters(new AgentParameters(i == 1, j == 2, false, i == 1 && j == 1))
+                        .fireParameter(new FireParameter(false, false, 0, ForestFireState.NONE,
+                                ForestFireBurnedColor.convertBurnedFieldPercentageToColorValue(0), 0))
+                        .build();
+            }
+        }
+        board[2][3].setFireParameter(new FireParameter(true, false, 30, ForestFireState.MEDIUM,
+                ForestFireBurnedColor.convertBurnedFieldPercentageToColorValue(30), 2.0));
+        board[3][3].setFireParameter(new FireParameter(true, false, 100, ForestFireState.DESTROYED,
+                ForestFireBurnedColor.convertBurnedFieldPercentageToColorValue(100), 5.0));
+    }
+
+    @Test
+    void toForestPixels_WhenConvertedBackFromPrimitiveBoard() {
+        PrimitiveBoard primitiveBoard = PrimitiveBoardConverter.toPrimitiveBoard(board);
+        FireLayer fireLayer = PrimitiveBoardConverter.toFireLayer(board);
+
+        ForestPixel[][] result = PrimitiveBoardConverter.toForestPixels(primitiveBoard, fireLayer);
+
+        for (int i = 0; i < BOARD_HEIGHT; i++) {
+            for (int j = 0; j < BOARD_WIDTH; j++) {
+                ForestPixel expected = board[i][j];
+                ForestPixel actual = result[i][j];
+                assertEquals(expected.getId(), actual.getId());
+                assertEquals(expected.getTerrain(), actual.getTerrain());
+                assertEquals(expected.getForestFireIndex(), actual.getForestFireIndex());
+                assertEquals(expected.getForestFireIndexValue(), actual.getForestFireIndexValue());
+                assertEquals(expected.getTemperature(), actual.getTemperature());
+                assertEquals(expected.getHumidity(), actual.getHumidity());
+                assertEquals(expected.getWind(), actual.getWind());
+                assertEquals(expected.getAgentParameters(), actual.getAgentParameters());
+                assertEquals(expected.getFireParameter(), actual.getFireParameter());
+            }
+        }
+    }
+
+    @Test
+    void calculateFirePixelDamage_WhenComparedWithObjectBoard() {
+        PrimitiveBoard primitiveBoard = PrimitiveBoardConverter.toPrimitiveBoard(board);
+        FireLayer fireLayer = PrimitiveBoardConverter.toFireLayer(board);
+        List<ForestPixel> neighbours = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            neighbours.addAll(List.of(board[i][2], board[i][3], board[i][4]));
+        }
+
+        double expected = fireCalculator.calculateFirePixelDamage(board[2][3], neighbours);
+        double result = fireCalculator.calculateFirePixelDamage(primitiveBoard, fireLayer, primitiveBoard.index(2, 3), 1, 3, 2, 4);
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void calculateProbabilityOfPixelBurning_WhenComparedWithObjectBoard() {
+        PrimitiveBoard primitiveBoard = PrimitiveBoardConverter.toPrimitiveBoard(board);
+        FireLayer fireLayer = PrimitiveBoardConverter.toFireLayer(board);
+        List<ForestPixel> neighbours = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            neighbours.addAll(List.of(board[i][1], board[i][2], board[i][3]));
+        }
+
+        double expected = startingBurningManager.calculateProbabilityOfPixelBurning(board[2][2], neighbours);
+        double result = startingBurningManager.calculateProbabilityOfPixelBurning(primitiveBoard, fireLayer,
+                primitiveBoard.index(2, 2), 1, 3, 1, 3);
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void updatePixelBurning_WhenComparedWithObjectBoard() {
+        FireLayer fireLayer = PrimitiveBoardConverter.toFireLayer(board);
+
+        fireCalculator.updatePixelBurning(board[2][3], 80.0);
+        fireCalculator.updatePixelBurning(fireLayer, 2 * BOARD_WIDTH + 3, 80.0);
+
+        FireParameter result = PrimitiveBoardConverter.toForestPixels(PrimitiveBoardConverter.toPrimitiveBoard(board), fireLayer)[2][3]
+                .getFireParameter();
+        assertEquals(board[2][3].getFireParameter(), result);
+    }
+
+    @Test
+    void toForestBoardDelta_WhenOnlySomePixelsChanged() {
+        PrimitiveBoard primitiveBoard = PrimitiveBoardConverter.toPrimitiveBoard(board);
+        FireLayer previousFireLayer = PrimitiveBoardConverter.toFireLayer(board);
+        FireLayer fireLayer = previousFireLayer.createCopy();
+        fireCalculator.updatePixelBurning(fireLayer, primitiveBoard.index(2, 3), 3.0);
+        startingBurningManager.setPixelValueToBeBurned(primitiveBoard, fireLayer, primitiveBoard.index(4, 5));
+
+        ForestBoardDelta delta = PrimitiveBoardConverter.toForestBoardDelta("board", 6, 7,
+                PrimitiveBoardConverter.toTiledFireBoard(primitiveBoard, previousFireLayer),
+                PrimitiveBoardConverter.toTiledFireBoard(primitiveBoard, fireLayer));
+
+        assertEquals("board", delta.id());
+        assertEquals(6, delta.baseIteration());
+        assertEquals(7, delta.iteration());
+        assertArrayEquals(new int[]{primitiveBoard.index(2, 3), primitiveBoard.index(4, 5)}, delta.indices());
+        for (int i = 0; i < delta.size(); i++) {
+            int index = delta.indices()[i];
+            assertEquals(fireLayer.getForestFireState()[index], delta.forestFireStates()[i]);
+            assertEquals(fireLayer.getFireSpeed()[index], delta.fireSpeeds()[i]);
+            assertEquals(fireLayer.getFieldPercentageDestroyed()[index], delta.fieldPercentagesDestroyed()[i]);
+            assertEquals(fireLayer.getBeingBurned()[index], delta.beingBurned()[i]);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package pl.krzesniak.service;
+
+import pl.krzesniak.model.*;
+import pl.krzesniak.model.enums.*;
+import pl.krzesniak.service.rule.DefaultFireModel;
+import pl.krzesniak.service.rule.FireModelRegistry;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+public final class SimulationFixtures {
+
+    public static final int BAND_ROWS = 5;
+
+    private SimulationFixtures() {
+    }
+
+    public static ForestFireSimulator createSimulator(int boardSize, ForkJoinPool simulationComputePool) {
+        FireCalculator fireCalculator = new FireCalculator();
+        PixelStartingBurningManager startingBurningManager = new PixelStartingBurningManager(fireCalculator);
+        ForestFireSimulator simulator = new ForestFireSimulator(new ForestPixelHelper(boardSize, boardSize, 5, 3),
+                fireCalculator, startingBurningManager, simulationComputePool,
+                new FireModelRegistry(List.of(new DefaultFireModel(fireCalculator, startingBurningManager))));
+        simulator.setBandRows(BAND_ROWS);
+        return simulator;
+    }
+
+    public static ForestPixel[][] createBoard(int boardSize) {
+        ForestPixel[][] board = new ForestPixel[boardSize][boardSize];
+        for (int i = 0; i < boardSize; i++) {
+            for (int j = 0; j < boardSize; j++) {
+                board[i][j] = ForestPixel.builder()
+                        .id(i + ":" + j)
+                        .terrain((i * 31 + j * 17) % 11 == 0 ? Terrain.WATER : Terrain.FOREST_CONIFEROUS)
+                        .forestFireIndex(ForestFireIndex.HIGH)
+                        .forestFireIndexValue((i * 7 + j * 13) % 70)
+                        .temperature(20 + i % 7)
+                        .humidity(30 + j % 5)
+                        .wind(new Wind(90, 10))
+                        .agentParameters(new AgentParameters(false, i == j, false, false))
+                        .fireParameter(new FireParameter(false, false, 0, ForestFireState.NONE,
+                                ForestFireBurnedColor.convertBurnedFieldPercentageToColorValue(0), 0))
+                        .build();
+            }
+        }
+        board[boardSize / 2][boardSize / 2].setBasicFireParameter(ForestFireState.HIGH);
+        return board;
+    }
+}
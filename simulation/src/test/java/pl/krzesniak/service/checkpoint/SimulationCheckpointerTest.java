@@ -0,0 +1,67 @@
+package pl.krzesniak.service.checkpoint;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import pl.krzesniak.model.*;
+import pl.krzesniak.model.enums.*;
+import pl.krzesniak.service.ForestFireSimulator;
+import pl.krzesniak.service.SimulationFixtures;
+import pl.krzesniak.service.rule.DefaultFireModel;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationCheckpointerTest {
+
+    public static final int BOARD_SIZE = 48;
+    public static final long SEED = 2023;
+
+    @TempDir
+    Path directory;
+    ForkJoinPool simulationComputePool = new ForkJoinPool(2);
+    SimulationCheckpointer checkpointer = new SimulationCheckpointer();
+    ForestFireSimulator simulator = SimulationFixtures.createSimulator(BOARD_SIZE, simulationComputePool);
+    ForestPixel[][] board = SimulationFixtures.createBoard(BOARD_SIZE);
+
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(checkpointer, "directory", directory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        checkpointer.shutdown();
+        simulationComputePool.shutdown();
+    }
+
+    @Test
+    void restoreSimulation_WhenResumedRunIsComparedWithUninterruptedRun() throws Exception {
+        Simulation simulation = simulator.createSimulation(board, SEED, IterationMode.PARALLEL);
+        simulator.advance(simulation, 6);
+
+        CheckpointResult checkpointResult = checkpointer.checkpoint(simulation);
+        SimulationCheckpoint checkpoint = checkpointer.read(simulation.getId());
+        Simulation resumed = simulator.restoreSimulation(checkpoint, simulation.getFireModel());
+
+        assertEquals(6, checkpointResult.tick());
+        assertEquals(DefaultFireModel.NAME, checkpoint.fireModel());
+        assertEquals(Files.size(directory.resolve(simulation.getId() + SimulationCheckpointer.CHECKPOINT_EXTENSION)),
+                checkpointResult.bytes());
+        assertEquals(simulation.getId(), resumed.getId());
+        assertEquals(6, resumed.getTick());
+        simulator.advance(simulation, 8);
+        simulator.advance(resumed, 8);
+        ForestPixel[][] expected = simulator.getBoard(simulation);
+        ForestPixel[][] actual = simulator.getBoard(resumed);
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            assertArrayEquals(expected[i], actual[i]);
+        }
+        assertEquals(simulator.getStatistics(simulation).pixelsByState(), simulator.getStatistics(resumed).pixelsByState());
+    }
+}
@@ -0,0 +1,66 @@
+package pl.krzesniak.service.frontier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.krzesniak.model.PrimitiveBoard;
+import pl.krzesniak.model.enums.Terrain;
+import pl.krzesniak.service.FireCalculator;
+import pl.krzesniak.service.PixelStartingBurningManager;
+import pl.krzesniak.service.rule.DefaultIgnitionRule;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SelfIgnitionSamplerTest {
+
+    public static final int BOARD_SIZE = 100;
+    public static final int SAMPLES = 200;
+
+    PixelStartingBurningManager startingBurningManager = new PixelStartingBurningManager(new FireCalculator());
+    PrimitiveBoard board = new PrimitiveBoard(BOARD_SIZE, BOARD_SIZE);
+
+    @BeforeEach
+    void setup() {
+        for (int index = 0; index < board.size(); index++) {
+            board.getTerrain()[index] = (byte) (index % 10 == 0 ? Terrain.WATER : Terrain.FOREST_DECIDUOUS).ordinal();
+            board.getForestFireIndexValue()[index] = index % 200;
+        }
+    }
+
+    @Test
+    void sample_WhenIgnitionsAreCountedOverManyTicks() {
+        SelfIgnitionSampler sampler = new SelfIgnitionSampler(board, new DefaultIgnitionRule(startingBurningManager));
+        double[] expectedChances = new double[board.size()];
+        double expectedIgnitions = 0;
+        for (int index = 0; index < board.size(); index++) {
+            expectedChances[index] = startingBurningManager.calculateSelfIgnitionChance(board, index);
+            expectedIgnitions += expectedChances[index];
+        }
+        int[] ignitions = new int[board.size()];
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            sampler.sample(random, index -> ignitions[index]++);
+        }
+
+        long totalIgnitions = 0;
+        for (int index = 0; index < board.size(); index++) {
+            if (expectedChances[index] == 0) assertEquals(0, ignitions[index]);
+            totalIgnitions += ignitions[index];
+        }
+        double meanIgnitions = (double) totalIgnitions / SAMPLES;
+        assertEquals(expectedIgnitions, meanIgnitions, expectedIgnitions * 0.05);
+    }
+
+    @Test
+    void sample_WhenChanceIsCertain() {
+        board.getForestFireIndexValue()[1] = 400;
+        SelfIgnitionSampler sampler = new SelfIgnitionSampler(board, new DefaultIgnitionRule(startingBurningManager));
+        int[] ignitions = new int[board.size()];
+
+        sampler.sample(new SplittableRandom(7), index -> ignitions[index]++);
+
+        assertEquals(1, ignitions[1]);
+    }
+}
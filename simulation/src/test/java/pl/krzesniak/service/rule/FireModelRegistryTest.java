@@ -0,0 +1,29 @@
+package pl.krzesniak.service.rule;
+
+import org.junit.jupiter.api.Test;
+import pl.krzesniak.exception.InvalidSimulationRequestException;
+import pl.krzesniak.service.FireCalculator;
+import pl.krzesniak.service.PixelStartingBurningManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FireModelRegistryTest {
+
+    FireCalculator fireCalculator = new FireCalculator();
+    DefaultFireModel defaultFireModel = new DefaultFireModel(fireCalculator,
+            new PixelStartingBurningManager(fireCalculator));
+    FireModelRegistry fireModelRegistry = new FireModelRegistry(List.of(defaultFireModel));
+
+    @Test
+    void get_WhenNameIsMissingOrDefault() {
+        assertSame(defaultFireModel, fireModelRegistry.get(null));
+        assertSame(defaultFireModel, fireModelRegistry.get(DefaultFireModel.NAME));
+    }
+
+    @Test
+    void get_WhenNameIsUnknown() {
+        assertThrows(InvalidSimulationRequestException.class, () -> fireModelRegistry.get("rothermel"));
+    }
+}
@@ -1,6 +1,5 @@
 package pl.krzesniak.dto;
 
 public record ForestPixelRequest(long temperature, long humidity, long pressure, long windDirection,
-                                 long windStrength) {
+                                 long windStrength, Long seed) {
 }
-
@@ -8,7 +8,6 @@ import pl.krzesniak.dto.TerrainGeneratorRequest;
 import pl.krzesniak.model.AgentParameters;
 import pl.krzesniak.model.FireParameter;
 import pl.krzesniak.model.ForestPixel;
-import pl.krzesniak.model.Wind;
 import pl.krzesniak.model.enums.ForestFireBurnedColor;
 import pl.krzesniak.model.enums.ForestFireIndex;
 import pl.krzesniak.model.enums.ForestFireState;
@@ -27,8 +26,10 @@ public class BoardGeneratorService {
     public static final double MIN_PERLIN_NOISE_INTERVAL_VALUE = -0.85;
 
     private TerrainBoundaries terrainBoundaries;
+    private final WeatherFieldGenerator weatherFieldGenerator;
 
-    public BoardGeneratorService() {
+    public BoardGeneratorService(WeatherFieldGenerator weatherFieldGenerator) {
+        this.weatherFieldGenerator = weatherFieldGenerator;
         terrainBoundaries = new TerrainBoundaries(-0.2, 0.45, 2, -0.31);
     }
 
@@ -78,15 +79,7 @@ public class BoardGeneratorService {
     }
 
     public ForestPixel[][] createForestFireIndex(ForestPixel[][] board, ForestPixelRequest forestPixelRequest) {
-        for (ForestPixel[] forestPixels : board) {
-            for (int j = 0; j < board[0].length; j++) {
-                forestPixels[j].setTemperature(forestPixelRequest.temperature());
-                forestPixels[j].setWind(new Wind(forestPixelRequest.windDirection(), forestPixelRequest.windStrength()));
-                forestPixels[j].setHumidity(forestPixelRequest.humidity());
-                forestPixels[j].applyProbability();
-            }
-        }
-        return board;
+        return weatherFieldGenerator.fill(board, forestPixelRequest);
     }
 
 }
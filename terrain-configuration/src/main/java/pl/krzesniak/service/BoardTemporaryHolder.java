@@ -1,8 +1,10 @@
 package pl.krzesniak.service;
 
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.springframework.stereotype.Component;
 import pl.krzesniak.client.MeasurementClient;
 import pl.krzesniak.client.SimulationClient;
@@ -27,14 +29,22 @@ public class BoardTemporaryHolder {
 
     @Getter
     private ForestPixel[][] board;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private ForestPixelIndex forestPixelIndex = new ForestPixelIndex(null);
     public static final int MIN_FIRE_VALUE_TO_BECOME_TESTABLE = 40;
 
 
     public ForestPixel[][] createTerrain(TerrainGeneratorRequest terrainGeneratorRequest) {
-        board = boardGenerator.createBoard(terrainGeneratorRequest);
+        setBoard(boardGenerator.createBoard(terrainGeneratorRequest));
         return board;
     }
 
+    public void setBoard(ForestPixel[][] board) {
+        this.board = board;
+        this.forestPixelIndex = new ForestPixelIndex(board);
+    }
+
     public ForestPixel[][] applyForestFireIndex(ForestPixelRequest forestPixelRequest) {
         return boardGenerator.createForestFireIndex(board, forestPixelRequest);
     }
@@ -74,10 +84,7 @@ public class BoardTemporaryHolder {
     }
 
     public Optional<ForestPixel> findForestPixelById(String id) {
-        return Arrays.stream(this.board)
-                .flatMap(Arrays::stream)
-                .filter(forestPixel -> forestPixel.getId().equals(id))
-                .findFirst();
+        return forestPixelIndex.findForestPixelById(id);
     }
 
     public void exchangeBoard() {
@@ -0,0 +1,63 @@
+package pl.krzesniak.service;
+
+import org.springframework.stereotype.Component;
+import pl.krzesniak.dto.ForestPixelRequest;
+import pl.krzesniak.model.ForestPixel;
+import pl.krzesniak.model.Wind;
+import pl.krzesniak.model.enums.Terrain;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static pl.krzesniak.model.ForestPixel.PROBABILITY_STEPS;
+
+// row r draws from the stream (seed, 0, r), so the field does not depend on the thread count
+@Component
+public class WeatherFieldGenerator {
+
+    public ForestPixel[][] fill(ForestPixel[][] board, ForestPixelRequest forestPixelRequest) {
+        RandomStreams randomStreams = new RandomStreams(forestPixelRequest.seed() == null
+                ? RandomStreams.randomSeed() : forestPixelRequest.seed());
+        double temperature = forestPixelRequest.temperature();
+        double humidity = forestPixelRequest.humidity();
+        Wind wind = new Wind(forestPixelRequest.windDirection(), forestPixelRequest.windStrength());
+        Wind[] winds = createWinds(wind);
+        IntStream.range(0, board.length).parallel().forEach(row -> {
+            SplittableRandom random = randomStreams.forTile(0, row);
+            for (ForestPixel pixel : board[row]) {
+                if (pixel.getTerrain() == Terrain.SAND || pixel.getTerrain() == Terrain.WATER) {
+                    pixel.setTemperature(temperature);
+                    pixel.setHumidity(humidity);
+                    pixel.setWind(wind);
+                    continue;
+                }
+                double pixelTemperature = temperature + temperature
+                        * ForestPixel.toProbability(ForestPixel.drawProbabilityStep(random));
+                double pixelHumidity = humidity + pixelTemperature
+                        * ForestPixel.toProbability(ForestPixel.drawProbabilityStep(random));
+                int windDirectionStep = ForestPixel.drawProbabilityStep(random);
+                Wind pixelWind = winds[windDirectionStep * PROBABILITY_STEPS + ForestPixel.drawProbabilityStep(random)];
+                double forestFireIndexValue = ForestPixel.calculateForestFireIndexValue(
+                        ForestPixel.drawDroughtFactor(random), pixelTemperature, pixelHumidity, pixelWind.speed());
+                pixel.setTemperature(pixelTemperature);
+                pixel.setHumidity(pixelHumidity);
+                pixel.setWind(pixelWind);
+                pixel.setForestFireIndexValue(forestFireIndexValue);
+                pixel.setForestFireIndex(ForestPixel.converForestFireValueToForestFireIndex(forestFireIndexValue));
+            }
+        });
+        return board;
+    }
+
+    private Wind[] createWinds(Wind wind) {
+        Wind[] winds = new Wind[PROBABILITY_STEPS * PROBABILITY_STEPS];
+        for (int directionStep = 0; directionStep < PROBABILITY_STEPS; directionStep++) {
+            for (int speedStep = 0; speedStep < PROBABILITY_STEPS; speedStep++) {
+                winds[directionStep * PROBABILITY_STEPS + speedStep] = new Wind(
+                        wind.direction() + wind.direction() * ForestPixel.toProbability(directionStep),
+                        wind.speed() + wind.speed() * ForestPixel.toProbability(speedStep));
+            }
+        }
+        return winds;
+    }
+}
@@ -0,0 +1,96 @@
+package pl.krzesniak.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import pl.krzesniak.dto.ForestPixelRequest;
+import pl.krzesniak.model.ForestPixel;
+import pl.krzesniak.model.Wind;
+import pl.krzesniak.model.enums.Terrain;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherFieldGeneratorTest {
+
+    public static final int BOARD_SIZE = 40;
+    public static final long SEED = 77;
+
+    WeatherFieldGenerator weatherFieldGenerator = new WeatherFieldGenerator();
+    ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+    ForkJoinPool multiThreadPool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        singleThreadPool.shutdown();
+        multiThreadPool.shutdown();
+    }
+
+    @Test
+    void fill_WhenSameSeedIsFilledOnDifferentThreadCounts() {
+        ForestPixelRequest request = new ForestPixelRequest(25, 40, 1000, 90, 10, SEED);
+
+        ForestPixel[][] singleThreadBoard = singleThreadPool.submit(() -> weatherFieldGenerator.fill(createBoard(),
+                request)).join();
+        ForestPixel[][] multiThreadBoard = multiThreadPool.submit(() -> weatherFieldGenerator.fill(createBoard(),
+                request)).join();
+
+        ForestPixel[][] expected = createBoard();
+        RandomStreams randomStreams = new RandomStreams(SEED);
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            var random = randomStreams.forTile(0, i);
+            for (ForestPixel pixel : expected[i]) {
+                pixel.setTemperature(request.temperature());
+                pixel.setHumidity(request.humidity());
+                pixel.setWind(new Wind(request.windDirection(), request.windStrength()));
+                pixel.applyProbability(random);
+            }
+        }
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            for (int j = 0; j < BOARD_SIZE; j++) {
+                assertWeatherEquals(expected[i][j], singleThreadBoard[i][j]);
+                assertWeatherEquals(expected[i][j], multiThreadBoard[i][j]);
+            }
+        }
+    }
+
+    @Test
+    void fill_WhenSeedsDiffer() {
+        ForestPixel[][] board = weatherFieldGenerator.fill(createBoard(),
+                new ForestPixelRequest(25, 40, 1000, 90, 10, SEED));
+        ForestPixel[][] otherBoard = weatherFieldGenerator.fill(createBoard(),
+                new ForestPixelRequest(25, 40, 1000, 90, 10, SEED + 1));
+
+        int differentPixels = 0;
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            for (int j = 0; j < BOARD_SIZE; j++) {
+                if (board[i][j].getTemperature() != otherBoard[i][j].getTemperature()
+                        || board[i][j].getForestFireIndexValue() != otherBoard[i][j].getForestFireIndexValue()) {
+                    differentPixels++;
+                }
+            }
+        }
+        assertTrue(differentPixels > BOARD_SIZE * BOARD_SIZE / 2);
+    }
+
+    private ForestPixel[][] createBoard() {
+        ForestPixel[][] board = new ForestPixel[BOARD_SIZE][BOARD_SIZE];
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            for (int j = 0; j < BOARD_SIZE; j++) {
+                board[i][j] = ForestPixel.builder()
+                        .id(i + ":" + j)
+                        .terrain(j % 7 == 0 ? Terrain.WATER : Terrain.FOREST_CONIFEROUS)
+                        .build();
+            }
+        }
+        return board;
+    }
+
+    private void assertWeatherEquals(ForestPixel expected, ForestPixel actual) {
+        assertEquals(expected.getTemperature(), actual.getTemperature());
+        assertEquals(expected.getHumidity(), actual.getHumidity());
+        assertEquals(expected.getWind(), actual.getWind());
+        assertEquals(expected.getForestFireIndexValue(), actual.getForestFireIndexValue());
+        assertEquals(expected.getForestFireIndex(), actual.getForestFireIndex());
+    }
+}